@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue.internal;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+import org.apache.geode.cache.asyncqueue.ChangeBatch;
+import org.apache.geode.cache.asyncqueue.ChangeStream;
+import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
+
+public class ChangeStreamIntegrationTest {
+
+  private Cache cache;
+
+  @Before
+  public void setUp() {
+    cache = new CacheFactory().set(MCAST_PORT, "0").set(LOCATORS, "").create();
+  }
+
+  @After
+  public void tearDown() {
+    if (cache != null) {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void readersResumeFromTheOffsetAfterTheLastCommittedChange() {
+    ChangeStream stream = cache.createAsyncEventQueueFactory().createChangeStream("stream");
+    Region<Integer, String> region = createRegion(stream);
+    for (int i = 0; i < 10; i++) {
+      region.put(i, "value" + i);
+    }
+    assertThat(stream.getLocalPartitions(region)).containsExactly(0);
+
+    ChangeBatch first = stream.read(region, 0, 0, 4);
+    assertThat(keysOf(first)).containsExactly(0, 1, 2, 3);
+    assertThat(first.getNextOffset())
+        .isEqualTo(first.getOffset(first.getChanges().get(3)) + 1);
+    // reads leave the changes in the stream
+    assertThat(keysOf(stream.read(region, 0, 0, 4))).containsExactly(0, 1, 2, 3);
+
+    stream.commit(region, 0, first.getNextOffset());
+
+    assertThat(cache.getAsyncEventQueue("stream").size()).isEqualTo(6);
+    assertThat(keysOf(stream.read(region, 0, 0, 100))).containsExactly(4, 5, 6, 7, 8, 9);
+
+    ChangeBatch second = stream.read(region, 0, first.getNextOffset(), 3);
+    assertThat(keysOf(second)).containsExactly(4, 5, 6);
+    ChangeBatch third = stream.read(region, 0, second.getNextOffset(), 3);
+    assertThat(keysOf(third)).containsExactly(7, 8, 9);
+    ChangeBatch last = stream.read(region, 0, third.getNextOffset(), 3);
+    assertThat(last.getChanges()).isEmpty();
+    assertThat(last.getNextOffset()).isEqualTo(third.getNextOffset());
+
+    stream.commit(region, 0, third.getNextOffset());
+
+    assertThat(cache.getAsyncEventQueue("stream").size()).isZero();
+    assertThat(stream.read(region, 0, 0, 100).getChanges()).isEmpty();
+  }
+
+  @Test
+  public void creatingAChangeStreamLeavesTheFactoryAttributesUnchanged() {
+    AsyncEventQueueFactory factory = cache.createAsyncEventQueueFactory();
+    factory.createChangeStream("stream");
+
+    AsyncEventQueue queue = factory.create("queue", events -> true);
+
+    assertThat(queue.isParallel()).isFalse();
+    assertThat(queue.isDispatchingPaused()).isFalse();
+    assertThat(queue.getAsyncEventListener()).isNotInstanceOf(
+        ChangeStreamImpl.UndispatchedListener.class);
+    assertThat(((AbstractGatewaySender) ((AsyncEventQueueImpl) queue).getSender())
+        .getAsyncEventListeners()).hasSize(1);
+  }
+
+  private Region<Integer, String> createRegion(ChangeStream stream) {
+    return cache.<Integer, String>createRegionFactory(RegionShortcut.PARTITION)
+        .setPartitionAttributes(
+            new PartitionAttributesFactory<Integer, String>().setTotalNumBuckets(1).create())
+        .addAsyncEventQueueId(stream.getId()).create("region");
+  }
+
+  private static List<Object> keysOf(ChangeBatch batch) {
+    return batch.getChanges().stream().map(change -> change.getKey())
+        .collect(Collectors.toList());
+  }
+}
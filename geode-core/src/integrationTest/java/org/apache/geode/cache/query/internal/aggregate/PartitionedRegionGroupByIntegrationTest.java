@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.aggregate;
+
+import static org.apache.geode.cache.Region.SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junitparams.Parameters;
+import junitparams.naming.TestCaseName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.data.Portfolio;
+import org.apache.geode.internal.cache.PRQueryProcessor;
+import org.apache.geode.test.junit.categories.OQLQueryTest;
+
+/**
+ * Group by queries on a partitioned region combine the aggregates of each bucket on the data store,
+ * so their results must match those of the same query on a replicated region.
+ */
+@Category(OQLQueryTest.class)
+public class PartitionedRegionGroupByIntegrationTest
+    extends AggregateFunctionQueryBaseIntegrationTest {
+  private static final String REPLICATED = "replicated";
+  private static final String PARTITIONED = "partitioned";
+  private static final int ENTRIES = 1000;
+
+  private QueryService queryService;
+
+  @Before
+  public void createRegions() {
+    for (int i = 1; i <= ENTRIES; i++) {
+      Portfolio portfolio = new Portfolio(i);
+      portfolio.shortID = (short) (i % 20);
+      regionOneLocalCopy.put(i, portfolio);
+    }
+    createAndPopulateRegion(REPLICATED, RegionShortcut.REPLICATE, regionOneLocalCopy);
+    createAndPopulateRegion(PARTITIONED, RegionShortcut.PARTITION, regionOneLocalCopy);
+    queryService = server.getCache().getQueryService();
+  }
+
+  @After
+  public void resetQueryThreads() {
+    PRQueryProcessor.TEST_NUM_THREADS = 0;
+  }
+
+  @SuppressWarnings("unused")
+  private static Object[] getQueries() {
+    return new Object[] {
+        new Object[] {"SELECT p.status, SUM(p.ID), COUNT(p.ID), MIN(p.ID), MAX(p.ID), AVG(p.ID)"
+            + " FROM %s p GROUP BY p.status", false},
+        new Object[] {"SELECT p.shortID, SUM(p.ID), COUNT(p.ID), MIN(p.ID), MAX(p.ID), AVG(p.ID)"
+            + " FROM %s p WHERE p.ID > 100 GROUP BY p.shortID", false},
+        new Object[] {"SELECT p.status, SUM(DISTINCT p.shortID), COUNT(DISTINCT p.shortID),"
+            + " AVG(DISTINCT p.shortID) FROM %s p GROUP BY p.status", false},
+        new Object[] {"SELECT DISTINCT p.status, COUNT(p.ID) FROM %s p GROUP BY p.status", false},
+        new Object[] {
+            "SELECT p.shortID, SUM(p.ID) FROM %s p GROUP BY p.shortID ORDER BY p.shortID DESC",
+            true},
+        new Object[] {"SELECT p.shortID, COUNT(p.ID) FROM %s p GROUP BY p.shortID LIMIT 5", false},
+        new Object[] {"SELECT p.shortID, AVG(p.ID) FROM %s p GROUP BY p.shortID"
+            + " ORDER BY p.shortID DESC LIMIT 5", true}};
+  }
+
+  @Test
+  @Parameters(method = "getQueries")
+  @TestCaseName("[{index}] {method}: {0}")
+  public void resultsMatchTheReplicatedRegion(String query, boolean ordered) throws Exception {
+    assertSameResults(query, ordered);
+  }
+
+  @Test
+  @Parameters(method = "getQueries")
+  @TestCaseName("[{index}] {method}: {0}")
+  public void resultsMatchTheReplicatedRegionWhenBucketsAreQueriedInParallel(String query,
+      boolean ordered) throws Exception {
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+
+    assertSameResults(query, ordered);
+  }
+
+  private void assertSameResults(String query, boolean ordered) throws Exception {
+    List<List<Object>> expected =
+        execute(queryService.newQuery(String.format(query, SEPARATOR + REPLICATED)));
+    assertThat(expected).isNotEmpty();
+
+    // the first execution of a query transforms its group by into an order by, after which each
+    // bucket is queried on its own
+    Query partitionedQuery = queryService.newQuery(String.format(query, SEPARATOR + PARTITIONED));
+    for (int i = 0; i < 2; i++) {
+      List<List<Object>> actual = execute(partitionedQuery);
+      if (ordered) {
+        assertThat(actual).containsExactlyElementsOf(expected);
+      } else {
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+      }
+    }
+  }
+
+  private List<List<Object>> execute(Query query) throws Exception {
+    SelectResults<?> results = (SelectResults<?>) query.execute();
+    List<List<Object>> rows = new ArrayList<>();
+    for (Object row : results) {
+      rows.add(Arrays.asList(((Struct) row).getFieldValues()));
+    }
+    return rows;
+  }
+}
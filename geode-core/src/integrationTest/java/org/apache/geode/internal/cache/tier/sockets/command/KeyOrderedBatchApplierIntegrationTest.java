@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets.command;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.EventIDHolder;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
+import org.apache.geode.internal.util.BlobHelper;
+
+public class KeyOrderedBatchApplierIntegrationTest {
+
+  private static final byte[] MEMBER = new byte[] {1, 2, 3, 4, 5};
+
+  private Cache cache;
+
+  private ExecutorService executor;
+
+  private final ClientProxyMembershipID proxyId =
+      new ClientProxyMembershipID(new InternalDistributedMember("localhost", 1));
+
+  @Before
+  public void setUp() {
+    cache = new CacheFactory().set(MCAST_PORT, "0").set(LOCATORS, "").create();
+    executor = Executors.newFixedThreadPool(3);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    if (cache != null) {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void storesEveryKeyPutByTheSameThread() throws Exception {
+    LocalRegion region =
+        (LocalRegion) cache.createRegionFactory(RegionShortcut.REPLICATE).create("region");
+    KeyOrderedBatchApplier applier =
+        new KeyOrderedBatchApplier(executor, 4, UnaryOperator.identity());
+
+    int keys = 100;
+    for (int i = 0; i < keys; i++) {
+      String key = "key" + i;
+      byte[] value = BlobHelper.serializeToBlob("value" + i);
+      EventIDHolder clientEvent = new EventIDHolder(new EventID(MEMBER, 1, i + 10));
+      applier.add(clientEvent.getEventId(), region.getFullPath(), key, i,
+          () -> region.basicBridgePut(key, value, null, true, null, proxyId, false, clientEvent));
+    }
+
+    assertThat(applier.applyAll()).isEmpty();
+
+    assertThat(region.size()).isEqualTo(keys);
+    for (int i = 0; i < keys; i++) {
+      assertThat(region.get("key" + i)).isEqualTo("value" + i);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan.asyncqueue;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Dispatches several batches through AsyncEventQueues while the gateway sender in-flight window is
+ * limited to a single small batch. AsyncEventQueue batches are never acknowledged by a remote site,
+ * so they must not be held back by the window.
+ */
+public class AsyncEventQueueInFlightWindowIntegrationTest {
+
+  private static final String MAX_IN_FLIGHT_BATCHES_PROPERTY =
+      GeodeGlossary.GEMFIRE_PREFIX + "GatewaySender.MAX_IN_FLIGHT_BATCHES";
+
+  private static final String MAX_IN_FLIGHT_BYTES_PROPERTY =
+      GeodeGlossary.GEMFIRE_PREFIX + "GatewaySender.MAX_IN_FLIGHT_BYTES";
+
+  private static final int ENTRIES = 100;
+
+  private Cache cache;
+
+  private final Map<Object, Object> dispatched = new ConcurrentHashMap<>();
+
+  @BeforeClass
+  public static void limitInFlightBatches() {
+    // read once when AbstractGatewaySenderEventProcessor is loaded, which each test JVM does after
+    // this
+    System.setProperty(MAX_IN_FLIGHT_BATCHES_PROPERTY, "1");
+    System.setProperty(MAX_IN_FLIGHT_BYTES_PROPERTY, "1");
+  }
+
+  @AfterClass
+  public static void clearInFlightLimits() {
+    System.clearProperty(MAX_IN_FLIGHT_BATCHES_PROPERTY);
+    System.clearProperty(MAX_IN_FLIGHT_BYTES_PROPERTY);
+  }
+
+  @Before
+  public void setUp() {
+    cache = new CacheFactory().set(MCAST_PORT, "0").set(LOCATORS, "").create();
+  }
+
+  @After
+  public void tearDown() {
+    if (cache != null) {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void serialQueueDispatchesEveryBatch() {
+    AsyncEventQueue queue = cache.createAsyncEventQueueFactory().setBatchSize(5)
+        .create("queue", new RecordingListener());
+    Region<Integer, String> region = cache.<Integer, String>createRegionFactory(
+        RegionShortcut.REPLICATE).addAsyncEventQueueId("queue").create("region");
+
+    putAndAwaitDispatch(queue, region);
+  }
+
+  @Test
+  public void parallelQueueDispatchesEveryBatch() {
+    AsyncEventQueue queue = cache.createAsyncEventQueueFactory().setParallel(true)
+        .setBatchSize(5).create("queue", new RecordingListener());
+    Region<Integer, String> region = cache.<Integer, String>createRegionFactory(
+        RegionShortcut.PARTITION).addAsyncEventQueueId("queue").create("region");
+
+    putAndAwaitDispatch(queue, region);
+  }
+
+  private void putAndAwaitDispatch(AsyncEventQueue queue, Region<Integer, String> region) {
+    for (int i = 0; i < ENTRIES; i++) {
+      region.put(i, "value" + i);
+    }
+
+    await().untilAsserted(() -> {
+      assertThat(dispatched).hasSize(ENTRIES);
+      assertThat(queue.size()).isZero();
+    });
+    for (int i = 0; i < ENTRIES; i++) {
+      assertThat(dispatched.get(i)).isEqualTo("value" + i);
+    }
+  }
+
+  private class RecordingListener implements AsyncEventListener {
+
+    @Override
+    public boolean processEvents(List<AsyncEvent> events) {
+      for (AsyncEvent event : events) {
+        dispatched.put(event.getKey(), event.getDeserializedValue());
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan.parallel;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
+import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
+import static org.apache.geode.distributed.ConfigurationProperties.OFF_HEAP_MEMORY_SIZE;
+import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.internal.AsyncEventQueueImpl;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.RegionQueue;
+import org.apache.geode.internal.offheap.MemoryAllocatorImpl;
+import org.apache.geode.internal.offheap.OffHeapMemoryStats;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Puts, peeks and removes events through a parallel queue stored off-heap and checks that every
+ * off-heap object is released exactly once.
+ */
+public class ParallelGatewaySenderQueueOffHeapIntegrationTest {
+
+  private static final String QUEUE_OFF_HEAP_PROPERTY =
+      GeodeGlossary.GEMFIRE_PREFIX + "GatewaySender.QUEUE_OFF_HEAP";
+
+  private static final int ENTRIES = 200;
+
+  private InternalCache cache;
+
+  private final Map<Object, Object> dispatched = new ConcurrentHashMap<>();
+
+  @BeforeClass
+  public static void enableOffHeapQueues() {
+    // read once when ParallelGatewaySenderQueue is loaded, which each test JVM does after this
+    System.setProperty(QUEUE_OFF_HEAP_PROPERTY, "true");
+  }
+
+  @AfterClass
+  public static void disableOffHeapQueues() {
+    System.clearProperty(QUEUE_OFF_HEAP_PROPERTY);
+  }
+
+  @Before
+  public void setUp() {
+    cache = (InternalCache) new CacheFactory().set(MCAST_PORT, "0").set(LOCATORS, "")
+        .set(OFF_HEAP_MEMORY_SIZE, "10m").create();
+  }
+
+  @After
+  public void tearDown() {
+    if (cache != null) {
+      cache.close();
+    }
+    MemoryAllocatorImpl.freeOffHeapMemory();
+  }
+
+  @Test
+  public void queuedEventsAreReleasedOnceWhenDispatched() {
+    AsyncEventQueue queue = cache.createAsyncEventQueueFactory().setParallel(true)
+        .setBatchSize(10).pauseEventDispatching().create("queue", new RecordingListener());
+    Region<Object, Object> region = cache.createRegionFactory(RegionShortcut.PARTITION)
+        .setOffHeap(true).addAsyncEventQueueId("queue").create("region");
+    assertThat(queueRegionOf(queue).getOffHeap()).isTrue();
+    OffHeapMemoryStats offHeapStats = cache.getOffHeapStore().getStats();
+
+    for (int i = 0; i < ENTRIES; i++) {
+      region.put(i, "value" + i);
+    }
+
+    // one object per region entry and one per queued event
+    await().untilAsserted(() -> {
+      assertThat(queue.size()).isEqualTo(ENTRIES);
+      assertThat(offHeapStats.getObjects()).isEqualTo(2 * ENTRIES);
+    });
+
+    queue.resumeEventDispatching();
+
+    await().untilAsserted(() -> {
+      assertThat(dispatched).hasSize(ENTRIES);
+      assertThat(queue.size()).isZero();
+      assertThat(offHeapStats.getObjects()).isEqualTo(ENTRIES);
+    });
+    for (int i = 0; i < ENTRIES; i++) {
+      assertThat(dispatched.get(i)).isEqualTo("value" + i);
+      assertThat(region.get(i)).isEqualTo("value" + i);
+    }
+
+    region.destroyRegion();
+
+    await().untilAsserted(() -> assertThat(offHeapStats.getObjects()).isZero());
+  }
+
+  private static PartitionedRegion queueRegionOf(AsyncEventQueue queue) {
+    RegionQueue regionQueue =
+        ((AsyncEventQueueImpl) queue).getSender().getQueues().iterator().next();
+    return (PartitionedRegion) regionQueue.getRegion();
+  }
+
+  private class RecordingListener implements AsyncEventListener {
+
+    @Override
+    public boolean processEvents(List<AsyncEvent> events) {
+      for (AsyncEvent event : events) {
+        dispatched.put(event.getKey(), event.getDeserializedValue());
+      }
+      return true;
+    }
+  }
+}
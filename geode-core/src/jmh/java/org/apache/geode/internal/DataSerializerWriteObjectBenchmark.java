@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializable;
+import org.apache.geode.pdx.PdxWriter;
+
+/**
+ * Measures the cost of DataSerializer.writeObject for a few common kinds of values. Every
+ * benchmark reuses a single HeapDataOutputStream so that the dispatch to the right serializer,
+ * rather than buffer allocation, dominates.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Measurement(iterations = 10)
+@Warmup(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataSerializerWriteObjectBenchmark {
+
+  private Cache cache;
+  private HeapDataOutputStream out;
+  private String string;
+  private byte[] bytes;
+  private Map<String, Integer> map;
+  private Customer customer;
+  private PdxCustomer pdxCustomer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // PdxSerializable values can only be written once a cache exists
+    cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
+    out = new HeapDataOutputStream(1024, KnownVersion.CURRENT);
+    string = "customer-42";
+    bytes = new byte[64];
+    map = new HashMap<>();
+    for (int i = 0; i < 8; i++) {
+      map.put("key-" + i, i);
+    }
+    customer = new Customer(42, "customer-42");
+    pdxCustomer = new PdxCustomer(42, "customer-42");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    cache.close();
+  }
+
+  @Benchmark
+  public int writeString() throws IOException {
+    return write(string);
+  }
+
+  @Benchmark
+  public int writeByteArray() throws IOException {
+    return write(bytes);
+  }
+
+  @Benchmark
+  public int writeHashMap() throws IOException {
+    return write(map);
+  }
+
+  @Benchmark
+  public int writeDataSerializable() throws IOException {
+    return write(customer);
+  }
+
+  @Benchmark
+  public int writePdxSerializable() throws IOException {
+    return write(pdxCustomer);
+  }
+
+  private int write(Object value) throws IOException {
+    out.reset();
+    DataSerializer.writeObject(value, out);
+    return out.size();
+  }
+
+  public static class Customer implements DataSerializable {
+    private int id;
+    private String name;
+
+    public Customer() {}
+
+    Customer(int id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    @Override
+    public void toData(DataOutput out) throws IOException {
+      out.writeInt(id);
+      DataSerializer.writeString(name, out);
+    }
+
+    @Override
+    public void fromData(DataInput in) throws IOException {
+      id = in.readInt();
+      name = DataSerializer.readString(in);
+    }
+  }
+
+  public static class PdxCustomer implements PdxSerializable {
+    private int id;
+    private String name;
+
+    public PdxCustomer() {}
+
+    PdxCustomer(int id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    @Override
+    public void toData(PdxWriter writer) {
+      writer.writeInt("id", id).writeString("name", name);
+    }
+
+    @Override
+    public void fromData(PdxReader reader) {
+      id = reader.readInt("id");
+      name = reader.readString("name");
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.internal.PdxSerializerObject;
+import org.apache.geode.internal.util.BlobHelper;
+import org.apache.geode.pdx.ReflectionBasedAutoSerializer;
+
+/**
+ * Measures the throughput of auto serialization with the ReflectionBasedAutoSerializer, comparing
+ * its two field access paths. The plain benchmarks access fields through Unsafe, the default. The
+ * "Reflection" benchmarks run with gemfire.AutoSerializer.SAFE set so that fields are accessed
+ * through java.lang.reflect.Field instead.
+ */
+@State(Scope.Thread)
+@Fork(1)
+public class AutoSerializableManagerBenchmark {
+
+  private Cache cache;
+  private Order order;
+  private byte[] serializedOrder;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    cache = new CacheFactory().set(LOG_LEVEL, "warn")
+        .setPdxSerializer(new ReflectionBasedAutoSerializer(
+            AutoSerializableManagerBenchmark.class.getName() + ".*"))
+        .create();
+    order = new Order();
+    order.id = 42;
+    order.quantity = 7;
+    order.price = 19.99d;
+    order.active = true;
+    order.customer = "customer-42";
+    order.tags = new String[] {"priority", "international"};
+    order.lines = new int[] {1, 2, 3, 4, 5, 6, 7, 8};
+    serializedOrder = BlobHelper.serializeToBlob(order);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    cache.close();
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public byte[] serialize() throws IOException {
+    return BlobHelper.serializeToBlob(order);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    return BlobHelper.deserializeBlob(serializedOrder);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Dgemfire.AutoSerializer.SAFE=true")
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public byte[] serializeReflection() throws IOException {
+    return BlobHelper.serializeToBlob(order);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-Dgemfire.AutoSerializer.SAFE=true")
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Object deserializeReflection() throws IOException, ClassNotFoundException {
+    return BlobHelper.deserializeBlob(serializedOrder);
+  }
+
+  /**
+   * The auto serializer excludes org.apache.geode classes unless they implement
+   * PdxSerializerObject.
+   */
+  public static class Order implements PdxSerializerObject {
+    public long id;
+    public int quantity;
+    public double price;
+    public boolean active;
+    public String customer;
+    public String[] tags;
+    public int[] lines;
+
+    public Order() {}
+  }
+}
@@ -169,5 +169,17 @@ public interface AsyncEventQueueFactory {
    */
   AsyncEventQueue create(String id, AsyncEventListener listener);
 
+  /**
+   * Creates a {@link ChangeStream}, a parallel <code>AsyncEventQueue</code> whose events are
+   * pulled by readers instead of being dispatched to a listener. The queue is always parallel and
+   * its dispatching always paused, whatever this factory is configured with. The other attributes,
+   * such as persistence and the disk store, apply to the queue of the stream.
+   *
+   * @param id Id of the AsyncEventQueue of the stream
+   *
+   * @since Geode 1.15
+   */
+  ChangeStream createChangeStream(String id);
+
 
 }
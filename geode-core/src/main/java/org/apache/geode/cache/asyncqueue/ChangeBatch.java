@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue;
+
+import java.util.List;
+
+/**
+ * A batch of changes read from a partition of a {@link ChangeStream}.
+ *
+ * @since Geode 1.15
+ */
+public interface ChangeBatch {
+
+  /**
+   * Returns the changes of the batch, in the order they were made.
+   */
+  List<AsyncEvent<?, ?>> getChanges();
+
+  /**
+   * Returns the offset of a change of this batch.
+   */
+  long getOffset(AsyncEvent<?, ?> change);
+
+  /**
+   * Returns the offset to read the changes after this batch from, and to commit once the batch is
+   * processed. When the batch is empty this is the offset it was read from.
+   */
+  long getNextOffset();
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue;
+
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * An ordered feed of the changes to partitioned regions that is pulled by its readers instead of
+ * being pushed to an <code>AsyncEventListener</code>. A change stream is a parallel
+ * <code>AsyncEventQueue</code> whose events are never dispatched: each bucket of a region that
+ * uses the queue is a partition of the stream, holding the changes to that bucket in the order
+ * they were made.
+ * <p>
+ * Every change in a partition has an offset, which increases with each change. Readers pull
+ * batches of changes from an offset with {@link #read} and, once the changes are processed,
+ * discard them with {@link #commit}. Changes are kept until they are committed, so a reader that
+ * stops can resume from the offset after the last change it processed. When the queue is
+ * persistent the changes and their offsets survive a restart.
+ * <p>
+ * Partitions are read on the member hosting their primary bucket; {@link #getLocalPartitions}
+ * returns the partitions that can be read on this member.
+ * <p>
+ * Change streams are created with {@link AsyncEventQueueFactory#createChangeStream} and regions
+ * are attached to them by their id, like any other <code>AsyncEventQueue</code>.
+ *
+ * @since Geode 1.15
+ */
+public interface ChangeStream {
+
+  /**
+   * Returns the id of the stream, which is also the id of its <code>AsyncEventQueue</code>.
+   */
+  String getId();
+
+  /**
+   * Returns the partitions of a region that can be read and committed on this member.
+   *
+   * @param region a partitioned region attached to this stream
+   */
+  Set<Integer> getLocalPartitions(Region<?, ?> region);
+
+  /**
+   * Reads the changes of a partition, in order, starting with the first change at or after the
+   * given offset. The changes stay in the stream until they are committed.
+   *
+   * @param region a partitioned region attached to this stream
+   * @param partition the partition to read, one of {@link #getLocalPartitions}
+   * @param fromOffset the offset of the first change to read; 0 reads from the oldest change
+   * @param maxChanges the maximum number of changes to read
+   *
+   * @throws org.apache.geode.GemFireException if the partition is not primary on this member
+   */
+  ChangeBatch read(Region<?, ?> region, int partition, long fromOffset, int maxChanges);
+
+  /**
+   * Discards the changes of a partition before the given offset, typically the
+   * {@link ChangeBatch#getNextOffset() next offset} of a processed batch.
+   *
+   * @param region a partitioned region attached to this stream
+   * @param partition the partition to commit, one of {@link #getLocalPartitions}
+   * @param offset the offset of the first change to keep
+   *
+   * @throws org.apache.geode.GemFireException if the partition is not primary on this member
+   */
+  void commit(Region<?, ?> region, int partition, long offset);
+}
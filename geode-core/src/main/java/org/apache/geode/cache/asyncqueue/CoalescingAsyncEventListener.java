@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue;
+
+import org.apache.geode.cache.asyncqueue.internal.CoalescedAsyncEvent;
+
+/**
+ * An <code>AsyncEventListener</code> whose batches are coalesced by key before they are delivered.
+ * When a batch holds several events for the same entry of the same region, they are combined into
+ * one event with {@link #coalesce}, which by default keeps the latest event, except that an entry
+ * created and then updated is still delivered as a create. The combined event takes the place of
+ * the latest of the events it replaces, so events for different entries keep their relative order.
+ * <p>
+ * This suits write-behind listeners that only need the final state of each entry in a batch, such
+ * as listeners that write to a database: a batch with many updates to a few hot keys then results
+ * in a few statements. Coalescing is applied to each batch independently, after any batch
+ * conflation configured on the <code>AsyncEventQueue</code>; every original event is still removed
+ * from the queue once {@link #processEvents} succeeds.
+ * <p>
+ * The values of the delivered events are not deserialized until
+ * {@link AsyncEvent#getDeserializedValue()} is called, so listeners that only need
+ * {@link AsyncEvent#getSerializedValue()} never pay for deserialization.
+ *
+ * @since Geode 1.15
+ */
+public interface CoalescingAsyncEventListener extends AsyncEventListener {
+
+  /**
+   * Combines two events of the same batch for the same entry. Called in batch order, so
+   * <code>previous</code> is either an event that was queued before <code>next</code> or the result
+   * of an earlier call for the same entry.
+   * <p>
+   * By default, returns <code>next</code>. When <code>previous</code> is a create and
+   * <code>next</code> an update, returns an event with the create operation and everything else
+   * from <code>next</code>, so that the entry is not reported as updated before it was ever
+   * delivered as created. An entry created and then destroyed is delivered as destroyed.
+   *
+   * @param previous the earlier event for the entry
+   * @param next the later event for the entry
+   *
+   * @return the event to deliver in place of both, or null to deliver neither of them, for
+   *         example when an entry is created and destroyed within the batch
+   */
+  @SuppressWarnings("unchecked")
+  default AsyncEvent coalesce(AsyncEvent previous, AsyncEvent next) {
+    if (previous.getOperation().isCreate() && next.getOperation().isUpdate()) {
+      return new CoalescedAsyncEvent(next, previous.getOperation());
+    }
+    return next;
+  }
+}
@@ -16,12 +16,16 @@ package org.apache.geode.cache.asyncqueue.internal;
 
 import static org.apache.geode.cache.asyncqueue.internal.AsyncEventQueueImpl.getSenderIdFromAsyncEventQueueId;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.cache.asyncqueue.AsyncEventListener;
 import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
 import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+import org.apache.geode.cache.asyncqueue.ChangeStream;
 import org.apache.geode.cache.wan.GatewayEventFilter;
 import org.apache.geode.cache.wan.GatewayEventSubstitutionFilter;
 import org.apache.geode.cache.wan.GatewaySender;
@@ -191,6 +195,30 @@ public class AsyncEventQueueFactoryImpl implements AsyncEventQueueFactory {
     return asyncEventQueue;
   }
 
+  @Override
+  public ChangeStream createChangeStream(String id) {
+    if (cache instanceof CacheCreation) {
+      throw new UnsupportedOperationException(
+          "Change streams cannot be declared in cache.xml");
+    }
+    // the stream's queue must be parallel and paused, but this factory may go on to create other
+    // queues, so restore its attributes once the queue is created
+    boolean parallel = gatewaySenderAttributes.isParallel();
+    boolean pause = pauseEventsDispatching;
+    List<AsyncEventListener> listeners =
+        new ArrayList<>(gatewaySenderAttributes.getAsyncEventListeners());
+    gatewaySenderAttributes.setParallel(true);
+    pauseEventsDispatching = true;
+    try {
+      return new ChangeStreamImpl(
+          (InternalAsyncEventQueue) create(id, new ChangeStreamImpl.UndispatchedListener()));
+    } finally {
+      gatewaySenderAttributes.setParallel(parallel);
+      pauseEventsDispatching = pause;
+      gatewaySenderAttributes.setAsyncEventListeners(listeners);
+    }
+  }
+
   private GatewaySender create(String id) {
     gatewaySenderAttributes.setId(id);
 
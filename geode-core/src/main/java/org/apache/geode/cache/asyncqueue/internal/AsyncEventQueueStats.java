@@ -14,11 +14,18 @@
  */
 package org.apache.geode.cache.asyncqueue.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
 import org.apache.geode.StatisticsFactory;
 import org.apache.geode.StatisticsType;
 import org.apache.geode.StatisticsTypeFactory;
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.internal.cache.wan.GatewaySenderStats;
+import org.apache.geode.internal.statistics.LatencyHistogram;
 import org.apache.geode.internal.statistics.StatisticsClock;
 import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
 
@@ -30,10 +37,39 @@ public class AsyncEventQueueStats extends GatewaySenderStats {
   @Immutable
   public static final StatisticsType type;
 
+  /** Name of the listener invocations statistic */
+  private static final String LISTENER_INVOCATIONS = "listenerInvocations";
+  /** Name of the listener invocations in progress statistic */
+  private static final String LISTENER_INVOCATIONS_IN_PROGRESS = "listenerInvocationsInProgress";
+  /** Name of the listener invocation time statistic */
+  private static final String LISTENER_INVOCATION_TIME = "listenerInvocationTime";
+  /** Name of the listener latency histogram */
+  private static final String LISTENER_LATENCY = "listenerLatency";
+
+  private static final int listenerInvocationsId;
+  private static final int listenerInvocationsInProgressId;
+  private static final int listenerInvocationTimeId;
+  @Immutable
+  private static final LatencyHistogram listenerLatency;
 
   static {
     StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
-    type = createType(f, typeName, "Stats for activity in the AsyncEventQueue");
+    List<StatisticDescriptor> listenerDescriptors = new ArrayList<>();
+    listenerDescriptors.add(f.createLongCounter(LISTENER_INVOCATIONS,
+        "Number of batches passed to the AsyncEventListener.", "operations"));
+    listenerDescriptors.add(f.createLongGauge(LISTENER_INVOCATIONS_IN_PROGRESS,
+        "Number of batches the AsyncEventListener is currently processing.", "operations"));
+    listenerDescriptors.add(f.createLongCounter(LISTENER_INVOCATION_TIME,
+        "Total time spent in the AsyncEventListener processing batches.", "nanoseconds"));
+    listenerDescriptors.addAll(Arrays.asList(LatencyHistogram.createDescriptors(f,
+        LISTENER_LATENCY, "Number of batches the AsyncEventListener processed")));
+    type = createType(f, typeName, "Stats for activity in the AsyncEventQueue",
+        listenerDescriptors.toArray(new StatisticDescriptor[0]));
+
+    listenerInvocationsId = type.nameToId(LISTENER_INVOCATIONS);
+    listenerInvocationsInProgressId = type.nameToId(LISTENER_INVOCATIONS_IN_PROGRESS);
+    listenerInvocationTimeId = type.nameToId(LISTENER_INVOCATION_TIME);
+    listenerLatency = new LatencyHistogram(type, LISTENER_LATENCY);
   }
 
   /**
@@ -47,4 +83,45 @@ public class AsyncEventQueueStats extends GatewaySenderStats {
       StatisticsClock statisticsClock) {
     super(f, "asyncEventQueueStats-", asyncQueueId, type, statisticsClock);
   }
+
+  /**
+   * Increments the "listenerInvocationsInProgress" stat.
+   *
+   * @return the start of the invocation, to pass to {@link #endListenerInvocation}
+   */
+  public long startListenerInvocation() {
+    getStats().incLong(listenerInvocationsInProgressId, 1);
+    return getTime();
+  }
+
+  /**
+   * Records an AsyncEventListener invocation in the "listenerInvocations",
+   * "listenerInvocationTime" and listener latency stats.
+   *
+   * @param start the value returned by {@link #startListenerInvocation}
+   */
+  public void endListenerInvocation(long start) {
+    Statistics stats = getStats();
+    stats.incLong(listenerInvocationsInProgressId, -1);
+    stats.incLong(listenerInvocationsId, 1);
+    if (isClockEnabled()) {
+      long elapsed = getTime() - start;
+      stats.incLong(listenerInvocationTimeId, elapsed);
+      listenerLatency.recordNanos(stats, elapsed);
+    }
+  }
+
+  public long getListenerInvocations() {
+    return getStats().getLong(listenerInvocationsId);
+  }
+
+  /**
+   * Estimates a percentile of the time the AsyncEventListener takes to process a batch.
+   *
+   * @param percentile the percentile to estimate, between 0 and 100
+   * @return an upper bound in milliseconds for the percentile
+   */
+  public long getListenerLatencyPercentile(double percentile) {
+    return listenerLatency.getPercentileMillis(getStats(), percentile);
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.ChangeBatch;
+import org.apache.geode.cache.asyncqueue.ChangeStream;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.RegionQueue;
+import org.apache.geode.internal.cache.wan.GatewaySenderEventImpl;
+import org.apache.geode.internal.cache.wan.parallel.ConcurrentParallelGatewaySenderQueue;
+import org.apache.geode.internal.cache.wan.parallel.ParallelGatewaySenderQueue;
+
+/**
+ * A {@link ChangeStream} that reads the buckets of the queue of a parallel
+ * <code>AsyncEventQueue</code> whose dispatching stays paused. The offset of each change is the
+ * shadow key it was queued with, which increases within a bucket and is recovered with a
+ * persistent queue.
+ */
+public class ChangeStreamImpl implements ChangeStream {
+
+  private final InternalAsyncEventQueue asyncEventQueue;
+
+  public ChangeStreamImpl(InternalAsyncEventQueue asyncEventQueue) {
+    this.asyncEventQueue = asyncEventQueue;
+  }
+
+  @Override
+  public String getId() {
+    return asyncEventQueue.getId();
+  }
+
+  @Override
+  public Set<Integer> getLocalPartitions(Region<?, ?> region) {
+    return getQueue(0).getLocalPrimaryBucketIds(toPartitionedRegion(region));
+  }
+
+  @Override
+  public ChangeBatch read(Region<?, ?> region, int partition, long fromOffset, int maxChanges) {
+    if (maxChanges <= 0) {
+      throw new IllegalArgumentException("maxChanges must be greater than 0");
+    }
+    List<GatewaySenderEventImpl> changes = getQueue(partition)
+        .getEventsFrom(toPartitionedRegion(region), partition, fromOffset, maxChanges);
+    long nextOffset =
+        changes.isEmpty() ? fromOffset : changes.get(changes.size() - 1).getShadowKey() + 1;
+    return new ChangeBatchImpl(changes, nextOffset);
+  }
+
+  @Override
+  public void commit(Region<?, ?> region, int partition, long offset) {
+    getQueue(partition).removeEventsBefore(toPartitionedRegion(region), partition, offset);
+  }
+
+  private ParallelGatewaySenderQueue getQueue(int partition) {
+    for (RegionQueue queue : asyncEventQueue.getSender().getQueues()) {
+      if (queue instanceof ConcurrentParallelGatewaySenderQueue) {
+        return (ParallelGatewaySenderQueue) ((ConcurrentParallelGatewaySenderQueue) queue)
+            .getQueueByBucket(partition);
+      }
+    }
+    throw new IllegalStateException(
+        String.format("The queue of change stream %s is not running", getId()));
+  }
+
+  private static PartitionedRegion toPartitionedRegion(Region<?, ?> region) {
+    if (!(region instanceof PartitionedRegion)) {
+      throw new IllegalArgumentException(
+          String.format("Change streams only support partitioned regions, not %s",
+              region.getFullPath()));
+    }
+    return (PartitionedRegion) region;
+  }
+
+  /**
+   * The listener of the queue of a change stream. Its dispatching is never resumed, so it is only
+   * called if someone resumes it by mistake, in which case it keeps the events in the queue.
+   */
+  static class UndispatchedListener implements AsyncEventListener {
+    @Override
+    public boolean processEvents(List<AsyncEvent> events) {
+      return false;
+    }
+  }
+
+  @VisibleForTesting
+  static class ChangeBatchImpl implements ChangeBatch {
+
+    private final List<AsyncEvent<?, ?>> changes;
+
+    private final long nextOffset;
+
+    ChangeBatchImpl(List<GatewaySenderEventImpl> changes, long nextOffset) {
+      List<AsyncEvent<?, ?>> copy = new ArrayList<>(changes.size());
+      for (GatewaySenderEventImpl change : changes) {
+        copy.add(change);
+      }
+      this.changes = Collections.unmodifiableList(copy);
+      this.nextOffset = nextOffset;
+    }
+
+    @Override
+    public List<AsyncEvent<?, ?>> getChanges() {
+      return changes;
+    }
+
+    @Override
+    public long getOffset(AsyncEvent<?, ?> change) {
+      return ((GatewaySenderEventImpl) change).getShadowKey();
+    }
+
+    @Override
+    public long getNextOffset() {
+      return nextOffset;
+    }
+  }
+}
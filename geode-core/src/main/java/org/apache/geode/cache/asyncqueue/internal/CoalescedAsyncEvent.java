@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue.internal;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.CoalescingAsyncEventListener;
+import org.apache.geode.cache.wan.EventSequenceID;
+
+/**
+ * An event combined by {@link CoalescingAsyncEventListener#coalesce}, which reports the operation of
+ * an earlier event of the batch and everything else from the latest one. An entry created and then
+ * updated within a batch is delivered as a create with the latest value.
+ */
+public class CoalescedAsyncEvent<K, V> implements AsyncEvent<K, V> {
+
+  private final AsyncEvent<K, V> latest;
+
+  private final Operation operation;
+
+  public CoalescedAsyncEvent(AsyncEvent<K, V> latest, Operation operation) {
+    this.latest = latest;
+    this.operation = operation;
+  }
+
+  /**
+   * Returns the queued event whose value, key and sequence id this event reports.
+   */
+  public AsyncEvent<K, V> getLatest() {
+    return latest;
+  }
+
+  @Override
+  public Operation getOperation() {
+    return operation;
+  }
+
+  @Override
+  public Region<K, V> getRegion() {
+    return latest.getRegion();
+  }
+
+  @Override
+  public Object getCallbackArgument() {
+    return latest.getCallbackArgument();
+  }
+
+  @Override
+  public K getKey() {
+    return latest.getKey();
+  }
+
+  @Override
+  public V getDeserializedValue() {
+    return latest.getDeserializedValue();
+  }
+
+  @Override
+  public byte[] getSerializedValue() {
+    return latest.getSerializedValue();
+  }
+
+  @Override
+  public boolean getPossibleDuplicate() {
+    return latest.getPossibleDuplicate();
+  }
+
+  @Override
+  public EventSequenceID getEventSequenceID() {
+    return latest.getEventSequenceID();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[operation=" + operation + "; latest=" + latest + "]";
+  }
+}
@@ -35,6 +35,7 @@ import org.apache.geode.internal.cache.tier.sockets.Part;
 import org.apache.geode.internal.cache.tier.sockets.VersionedObjectList;
 import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * Does a region getAll on a server
@@ -45,6 +46,14 @@ public class GetAllOp {
 
   private static final Logger logger = LogService.getLogger();
 
+  /**
+   * The maximum number of keys sent to a server in a single single-hop getAll request. Zero, the
+   * default, sends all of a server's keys in one request.
+   */
+  static final int MAX_KEYS_PER_SINGLE_HOP_REQUEST =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GetAllOp.MAX_KEYS_PER_SINGLE_HOP_REQUEST",
+          0);
+
   /**
    * Does a region getAll on a server using connections from the given pool to communicate with the
    * server.
@@ -72,33 +81,25 @@ public class GetAllOp {
       op.initMessagePart();
       return ((VersionedObjectList) pool.execute(op)).setKeys(keys);
     } else {
-      VersionedObjectList result = null;
-      ServerConnectivityException se = null;
-      List retryList = new ArrayList();
+      SingleHopGetAllResult singleHopResult = new SingleHopGetAllResult();
+      VersionedObjectList result;
+      ServerConnectivityException se;
+      List retryList;
       try {
         List callableTasks =
             constructGetAllTasks(region.getFullPath(), serverToFilterMap, (PoolImpl) pool,
                 callback);
-        Map<ServerLocation, Object> results =
-            SingleHopClientExecutor.submitGetAll(serverToFilterMap,
-                callableTasks, cms, (LocalRegion) region);
-        for (ServerLocation server : results.keySet()) {
-          Object serverResult = results.get(server);
-          if (serverResult instanceof ServerConnectivityException) {
-            se = (ServerConnectivityException) serverResult;
-            retryList.addAll(serverToFilterMap.get(server));
-          } else {
-            if (result == null) {
-              result = (VersionedObjectList) serverResult;
-            } else {
-              result.addAll((VersionedObjectList) serverResult);
-            }
-          }
-        }
+        SingleHopClientExecutor.submitGetAll(callableTasks, cms, (LocalRegion) region,
+            singleHopResult::add);
+        result = singleHopResult.result;
+        se = singleHopResult.connectivityException;
+        retryList = singleHopResult.retryList;
       } catch (ServerOperationException serverOperationException) {
         if (!(serverOperationException.getCause() instanceof SerializationException)) {
           throw serverOperationException;
         }
+        // all the keys are retried, so the results merged so far are dropped
+        result = null;
         se = serverOperationException;
         retryList = keys;
       }
@@ -125,9 +126,42 @@ public class GetAllOp {
     // no instances allowed
   }
 
+  /**
+   * Merges the result of each single-hop getAll task as it completes, and collects the keys of the
+   * tasks whose server could not be reached.
+   */
+  static class SingleHopGetAllResult {
+    private VersionedObjectList result;
+    private ServerConnectivityException connectivityException;
+    private final List retryList = new ArrayList();
+
+    void add(SingleHopOperationCallable task, Object serverResult) {
+      if (serverResult instanceof ServerConnectivityException) {
+        connectivityException = (ServerConnectivityException) serverResult;
+        retryList.addAll(((GetAllOpImpl) task.getOperation()).getKeyList());
+      } else if (result == null) {
+        result = (VersionedObjectList) serverResult;
+      } else {
+        result.addAll((VersionedObjectList) serverResult);
+      }
+    }
+  }
+
   static List constructGetAllTasks(String region,
       final Map<ServerLocation, Set> serverToFilterMap, final PoolImpl pool,
       final Object callback) {
+    return constructGetAllTasks(region, serverToFilterMap, pool, callback,
+        MAX_KEYS_PER_SINGLE_HOP_REQUEST);
+  }
+
+  /**
+   * Creates the tasks that get the keys from each server. If maxKeysPerTask is positive, a
+   * server's keys are split across several tasks of at most that many keys, which run
+   * concurrently on separate connections and bound the size of each response.
+   */
+  static List constructGetAllTasks(String region,
+      final Map<ServerLocation, Set> serverToFilterMap, final PoolImpl pool,
+      final Object callback, final int maxKeysPerTask) {
     final List<SingleHopOperationCallable> tasks = new ArrayList<>();
     ArrayList<ServerLocation> servers = new ArrayList<>(serverToFilterMap.keySet());
 
@@ -135,17 +169,28 @@ public class GetAllOp {
       logger.debug("Constructing tasks for the servers {}", servers);
     }
     for (ServerLocation server : servers) {
-      Set filterSet = serverToFilterMap.get(server);
-      AbstractOp getAllOp = new GetAllOpImpl(region, new ArrayList(filterSet), callback);
-
-      SingleHopOperationCallable task =
-          new SingleHopOperationCallable(new ServerLocation(server.getHostName(), server.getPort()),
-              pool, getAllOp, UserAttributes.userAttributes.get());
-      tasks.add(task);
+      List filterList = new ArrayList(serverToFilterMap.get(server));
+      if (maxKeysPerTask <= 0 || filterList.size() <= maxKeysPerTask) {
+        tasks.add(createGetAllTask(region, server, filterList, pool, callback));
+      } else {
+        for (int start = 0; start < filterList.size(); start += maxKeysPerTask) {
+          List keys = new ArrayList(
+              filterList.subList(start, Math.min(start + maxKeysPerTask, filterList.size())));
+          tasks.add(createGetAllTask(region, server, keys, pool, callback));
+        }
+      }
     }
     return tasks;
   }
 
+  private static SingleHopOperationCallable createGetAllTask(String region, ServerLocation server,
+      List keys, PoolImpl pool, Object callback) {
+    AbstractOp getAllOp = new GetAllOpImpl(region, keys, callback);
+    return new SingleHopOperationCallable(
+        new ServerLocation(server.getHostName(), server.getPort()), pool, getAllOp,
+        UserAttributes.userAttributes.get());
+  }
+
   static class GetAllOpImpl extends AbstractOp {
 
     private final List keyList;
@@ -14,14 +14,20 @@
  */
 package org.apache.geode.cache.client.internal;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 import org.apache.logging.log4j.Logger;
 
@@ -288,26 +294,42 @@ public class SingleHopClientExecutor {
     return null;
   }
 
-  static Map<ServerLocation, Object> submitGetAll(
-      Map<ServerLocation, Set> serverToFilterMap,
-      List callableTasks, ClientMetadataService cms,
-      LocalRegion region) {
+  /**
+   * Executes the given getAll tasks and hands the result of each task to the given handler on the
+   * calling thread as soon as it is available, so that a slow server neither delays the handling
+   * of the others' results nor the reporting of a failure. At most one task per server is in
+   * flight at a time, which bounds the threads and connections a getAll of many chunks uses. The
+   * result is either the server's {@link VersionedObjectList} or the
+   * {@link ServerConnectivityException} it failed with, which is also handed over for the tasks of
+   * the same server that have not run yet.
+   */
+  static void submitGetAll(List callableTasks, ClientMetadataService cms, LocalRegion region,
+      BiConsumer<SingleHopOperationCallable, Object> resultHandler) {
 
     if (callableTasks != null && !callableTasks.isEmpty()) {
-      Map<ServerLocation, Object> resultMap = new HashMap<>();
-      List futures;
-      try {
-        futures = execService.invokeAll(callableTasks);
-      } catch (InterruptedException e) {
-        throw new InternalGemFireException(e.getMessage());
+      Map<ServerLocation, Deque<SingleHopOperationCallable>> pendingTasks = new LinkedHashMap<>();
+      for (Object callableTask : callableTasks) {
+        SingleHopOperationCallable task = (SingleHopOperationCallable) callableTask;
+        pendingTasks.computeIfAbsent(task.getServer(), k -> new ArrayDeque<>()).add(task);
       }
-      Iterator futureItr = futures.iterator();
-      Iterator taskItr = callableTasks.iterator();
-      while (futureItr.hasNext() && !execService.isShutdown() && !execService.isTerminated()) {
-        Future fut = (Future) futureItr.next();
-        SingleHopOperationCallable task = (SingleHopOperationCallable) taskItr.next();
+      CompletionService<Object> completionService = new ExecutorCompletionService<>(execService);
+      Map<Future<Object>, SingleHopOperationCallable> futureToTask = new HashMap<>();
+      for (Deque<SingleHopOperationCallable> serverTasks : pendingTasks.values()) {
+        SingleHopOperationCallable task = serverTasks.poll();
+        futureToTask.put(completionService.submit(task), task);
+      }
+      while (!futureToTask.isEmpty() && !execService.isShutdown()
+          && !execService.isTerminated()) {
+        Future<Object> fut;
+        try {
+          fut = completionService.take();
+        } catch (InterruptedException e) {
+          throw new InternalGemFireException(e.getMessage());
+        }
+        SingleHopOperationCallable task = futureToTask.remove(fut);
         List keys = ((GetAllOpImpl) task.getOperation()).getKeyList();
         ServerLocation server = task.getServer();
+        Deque<SingleHopOperationCallable> serverTasks = pendingTasks.get(server);
         try {
 
           VersionedObjectList valuesFromServer = (VersionedObjectList) fut.get();
@@ -329,7 +351,7 @@ public class SingleHopClientExecutor {
           if (logger.isDebugEnabled()) {
             logger.debug("GetAllOp#got result from {}: {}", server, valuesFromServer);
           }
-          resultMap.put(server, valuesFromServer);
+          resultHandler.accept(task, valuesFromServer);
         } catch (InterruptedException e) {
           throw new InternalGemFireException(e.getMessage());
         } catch (ExecutionException ee) {
@@ -348,19 +370,26 @@ public class SingleHopClientExecutor {
             try {
               cms = region.getCache().getClientMetadataService();
             } catch (CacheClosedException e) {
-              return null;
+              return;
             }
             cms.removeBucketServerLocation(server);
             cms.scheduleGetPRMetaData(region, false);
-            resultMap.put(server, ee.getCause());
+            resultHandler.accept(task, ee.getCause());
+            // the server's remaining keys are retried along with the failed ones
+            for (SingleHopOperationCallable notRun : serverTasks) {
+              resultHandler.accept(notRun, ee.getCause());
+            }
+            serverTasks.clear();
           } else {
             throw executionThrowable(ee.getCause());
           }
         }
+        SingleHopOperationCallable next = serverTasks.poll();
+        if (next != null) {
+          futureToTask.put(completionService.submit(next), next);
+        }
       }
-      return resultMap;
     }
-    return null;
   }
 
   static void submitTask(Runnable task) {
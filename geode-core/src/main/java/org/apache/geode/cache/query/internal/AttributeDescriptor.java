@@ -53,6 +53,8 @@ public class AttributeDescriptor {
   /** cache for remembering the correct Member for a class and attribute */
   @MakeNotStatic
   static final ConcurrentMap<List, Member> _localCache = new ConcurrentHashMap<>();
+  /** returned by getRawFieldIfPresent when the pdx instance does not have the field */
+  private static final Object FIELD_NOT_PRESENT = new Object();
 
   public AttributeDescriptor(TypeRegistry pdxRegistry, String name) {
     _name = name;
@@ -227,10 +229,11 @@ public class AttributeDescriptor {
    */
   private Object readPdx(InternalPdxInstance pdxInstance, ExecutionContext executionContext)
       throws NameNotFoundException, QueryInvocationTargetException {
-    // if the field is present in the pdxinstance
-    if (pdxInstance.hasField(_name)) {
-      // return PdxString if field is a String otherwise invoke readField
-      return pdxInstance.getRawField(_name);
+    // if the field is present in the pdxinstance return PdxString if field is a String
+    // otherwise invoke readField; the field is resolved against the PdxType only once
+    Object value = pdxInstance.getRawFieldIfPresent(_name, FIELD_NOT_PRESENT);
+    if (value != FIELD_NOT_PRESENT) {
+      return value;
     } else {
       // field not found in the pdx instance, look for the field in any of the
       // PdxTypes (versions of the pdxinstance) in the type registry
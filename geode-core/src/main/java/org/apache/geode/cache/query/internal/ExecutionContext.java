@@ -96,6 +96,7 @@ public class ExecutionContext {
   private boolean distinct = false;
   private Object currentProjectionField = null;
   private boolean isPRQueryNode = false;
+  private boolean isBucketResultsCombiner = false;
 
   private Optional<ScheduledFuture> cancellationTask;
   private volatile CacheRuntimeException canceledException;
@@ -680,6 +681,18 @@ public class ExecutionContext {
     return isPRQueryNode;
   }
 
+  /**
+   * Marks this context as the one a data store uses to combine the aggregates computed for each of
+   * its buckets before sending them to the query node.
+   */
+  public void setIsBucketResultsCombiner(boolean isBucketResultsCombiner) {
+    this.isBucketResultsCombiner = isBucketResultsCombiner;
+  }
+
+  boolean getIsBucketResultsCombiner() {
+    return isBucketResultsCombiner;
+  }
+
   /**
    * Check to see if the query execution was canceled. The query gets canceled by the QueryMonitor
    * if it takes more than the max query execution time or low memory situations
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.aggregate;
+
+/**
+ * The aggregator used on a data store to combine the averages computed by {@link AvgBucketNode} for
+ * each of its buckets, so that a single partial result per group is sent to the query node.
+ */
+public class AvgBucketNodeCombiner extends Sum {
+  private long count = 0;
+
+  long getCount() {
+    return count;
+  }
+
+  /**
+   * Takes the two element array produced by a bucket node: the number of values and the sum of the
+   * values.
+   */
+  @Override
+  public void accumulate(Object value) {
+    Object[] array = (Object[]) value;
+    this.count += ((Long) array[0]);
+    super.accumulate(array[1]);
+  }
+
+  /**
+   * Returns a two element array of the total number of values & the combined sum of the values, in
+   * the same form as {@link AvgBucketNode#terminate()}.
+   */
+  @Override
+  public Object terminate() {
+    return new Object[] {count, super.terminate()};
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.wan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.iq80.snappy.SnappyFramedInputStream;
+import org.iq80.snappy.SnappyFramedOutputStream;
+
+/**
+ * A {@link GatewayTransportFilter} that compresses the traffic between a gateway sender and a
+ * gateway receiver with the Snappy block codec. Every message is flushed as one or more compressed
+ * frames, so a batch is compressed as a whole and the region names, member ids and event ids that
+ * repeat from one event to the next take up little room on the wire.
+ * <p>
+ * The filter must be configured on both the gateway senders and the gateway receivers they
+ * connect to.
+ *
+ * @since Geode 1.15
+ */
+public class SnappyGatewayTransportFilter implements GatewayTransportFilter {
+
+  /**
+   * Create a new instance of the SnappyGatewayTransportFilter.
+   */
+  public SnappyGatewayTransportFilter() {}
+
+  @Override
+  public InputStream getInputStream(InputStream stream) {
+    return new SnappyInputStream(stream);
+  }
+
+  @Override
+  public OutputStream getOutputStream(OutputStream stream) {
+    try {
+      return new SnappyFramedOutputStream(stream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    // nothing to release; each stream owns its buffers
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().getName().hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (other == null) {
+      return false;
+    }
+
+    return getClass().getName().equals(other.getClass().getName());
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+
+  /**
+   * Defers creating the SnappyFramedInputStream, which blocks until it has read the stream header
+   * written by the peer, until the first read. Otherwise both ends of a new connection could wait
+   * for each other's header while still setting up their streams.
+   */
+  private static class SnappyInputStream extends InputStream {
+    private final InputStream stream;
+    private InputStream snappy;
+
+    SnappyInputStream(InputStream stream) {
+      this.stream = stream;
+    }
+
+    private InputStream snappy() throws IOException {
+      if (snappy == null) {
+        snappy = new SnappyFramedInputStream(stream, true);
+      }
+      return snappy;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return snappy().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return snappy().read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return snappy == null ? 0 : snappy.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (snappy != null) {
+        snappy.close();
+      } else {
+        stream.close();
+      }
+    }
+  }
+}
@@ -138,6 +138,16 @@ public interface DMStats extends MembershipStatistics {
 
   void incBatchFlushTime(long start);
 
+  /**
+   * Increments the number of socket writes that carried the messages of several senders, along
+   * with the number of messages and bytes they carried.
+   */
+  void incCoalescedWrites(int messages, int bytes);
+
+  long getCoalescedWrites();
+
+  long getCoalescedMessages();
+
   /**
    * Increments the total number of nanoseconds spent scheduling messages to be processed.
    */
@@ -410,6 +420,14 @@ public interface DMStats extends MembershipStatistics {
    */
   void incAsyncConflatedMsgs();
 
+  long getAsyncConflatedBytes();
+
+  void incAsyncConflatedBytes(long bytes);
+
+  long getAsyncQueueCompactions();
+
+  void incAsyncQueueCompactions();
+
   /**
    * @since GemFire 4.2.2
    */
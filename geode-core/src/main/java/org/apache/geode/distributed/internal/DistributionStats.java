@@ -158,6 +158,10 @@ public class DistributionStats implements DMStats {
   private static final int batchWaitTimeId;
   private static final int batchFlushTimeId;
 
+  private static final int coalescedWritesId;
+  private static final int coalescedMessagesId;
+  private static final int coalescedBytesId;
+
   private static final int threadOwnedReceiversId;
   private static final int threadOwnedReceiversId2;
 
@@ -189,6 +193,8 @@ public class DistributionStats implements DMStats {
   private static final int asyncQueuedMsgsId;
   private static final int asyncDequeuedMsgsId;
   private static final int asyncConflatedMsgsId;
+  static final int asyncConflatedBytesId;
+  static final int asyncQueueCompactionsId;
 
   private static final int asyncThreadsId;
   private static final int asyncThreadInProgressId;
@@ -362,6 +368,10 @@ public class DistributionStats implements DMStats {
         "The total number of queued messages that have been removed from the queue and successfully sent.";
     final String asyncConflatedMsgsDesc =
         "The total number of queued conflated messages used for asynchronous queues.";
+    final String asyncConflatedBytesDesc =
+        "The total number of bytes removed from asynchronous queues because a newer update to the same entry replaced them.";
+    final String asyncQueueCompactionsDesc =
+        "The total number of times an asynchronous queue was compacted to drop the slots left behind by conflated messages.";
 
     final String asyncThreadsDesc = "Total number of asynchronous message queue threads.";
     final String asyncThreadInProgressDesc =
@@ -600,6 +610,14 @@ public class DistributionStats implements DMStats {
         f.createLongCounter("batchFlushTime",
             "Total amount of time, in nanoseconds, spent flushing batched messages to the network",
             "nanoseconds"),
+        f.createLongCounter("coalescedWrites",
+            "Total number of socket writes that combined messages sent concurrently on a shared connection.",
+            "writes"),
+        f.createLongCounter("coalescedMessages",
+            "Total number of messages sent by coalesced socket writes. Divide by coalescedWrites for the average batch size.",
+            "messages"),
+        f.createLongCounter("coalescedBytes",
+            "Total number of bytes sent by coalesced socket writes.", "bytes"),
 
         f.createLongGauge("asyncSocketWritesInProgress",
             "Current number of non-blocking socket write calls in progress.", "writes"),
@@ -636,6 +654,8 @@ public class DistributionStats implements DMStats {
         f.createLongCounter("asyncQueuedMsgs", asyncQueuedMsgsDesc, "msgs"),
         f.createLongCounter("asyncDequeuedMsgs", asyncDequeuedMsgsDesc, "msgs"),
         f.createLongCounter("asyncConflatedMsgs", asyncConflatedMsgsDesc, "msgs"),
+        f.createLongCounter("asyncConflatedBytes", asyncConflatedBytesDesc, "bytes"),
+        f.createLongCounter("asyncQueueCompactions", asyncQueueCompactionsDesc, "operations"),
 
         f.createLongGauge("asyncThreads", asyncThreadsDesc, "threads"),
         f.createLongGauge("asyncThreadInProgress", asyncThreadInProgressDesc, "operations"),
@@ -842,6 +862,10 @@ public class DistributionStats implements DMStats {
     batchWaitTimeId = type.nameToId("batchWaitTime");
     batchFlushTimeId = type.nameToId("batchFlushTime");
 
+    coalescedWritesId = type.nameToId("coalescedWrites");
+    coalescedMessagesId = type.nameToId("coalescedMessages");
+    coalescedBytesId = type.nameToId("coalescedBytes");
+
     asyncSocketWritesInProgressId = type.nameToId("asyncSocketWritesInProgress");
     asyncSocketWritesId = type.nameToId("asyncSocketWrites");
     asyncSocketWriteRetriesId = type.nameToId("asyncSocketWriteRetries");
@@ -862,6 +886,8 @@ public class DistributionStats implements DMStats {
     asyncQueuedMsgsId = type.nameToId("asyncQueuedMsgs");
     asyncDequeuedMsgsId = type.nameToId("asyncDequeuedMsgs");
     asyncConflatedMsgsId = type.nameToId("asyncConflatedMsgs");
+    asyncConflatedBytesId = type.nameToId("asyncConflatedBytes");
+    asyncQueueCompactionsId = type.nameToId("asyncQueueCompactions");
 
     asyncThreadsId = type.nameToId("asyncThreads");
     asyncThreadInProgressId = type.nameToId("asyncThreadInProgress");
@@ -1857,6 +1883,26 @@ public class DistributionStats implements DMStats {
     stats.incLong(asyncConflatedMsgsId, 1);
   }
 
+  @Override
+  public long getAsyncConflatedBytes() {
+    return stats.getLong(asyncConflatedBytesId);
+  }
+
+  @Override
+  public void incAsyncConflatedBytes(long bytes) {
+    stats.incLong(asyncConflatedBytesId, bytes);
+  }
+
+  @Override
+  public long getAsyncQueueCompactions() {
+    return stats.getLong(asyncQueueCompactionsId);
+  }
+
+  @Override
+  public void incAsyncQueueCompactions() {
+    stats.incLong(asyncQueueCompactionsId, 1);
+  }
+
   @Override
   public long getAsyncThreads() {
     return stats.getLong(asyncThreadsId);
@@ -2235,6 +2281,23 @@ public class DistributionStats implements DMStats {
     }
   }
 
+  @Override
+  public void incCoalescedWrites(int messages, int bytes) {
+    stats.incLong(coalescedWritesId, 1);
+    stats.incLong(coalescedMessagesId, messages);
+    stats.incLong(coalescedBytesId, bytes);
+  }
+
+  @Override
+  public long getCoalescedWrites() {
+    return stats.getLong(coalescedWritesId);
+  }
+
+  @Override
+  public long getCoalescedMessages() {
+    return stats.getLong(coalescedMessagesId);
+  }
+
   @Override
   public void incUcastRetransmits() {
     stats.incLong(ucastRetransmitsId, 1);
@@ -28,6 +28,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.InternalGemFireException;
@@ -50,6 +51,9 @@ public class LocatorLoadSnapshot {
 
   public static final float DEFAULT_LOAD_IMBALANCE_THRESHOLD = 10;
 
+  private static final String POWER_OF_TWO_CHOICES_PROPERTY_NAME =
+      "gemfire.locator-load-power-of-two-choices";
+
   private final Map<ServerLocation, String[]> serverGroupMap = new HashMap<>();
 
   private final Map<String, Map<ServerLocationAndMemberId, LoadHolder>> connectionLoadMap =
@@ -73,10 +77,22 @@ public class LocatorLoadSnapshot {
    */
   private boolean rebalancing;
 
+  /**
+   * when true a server for a new connection is chosen as the less loaded of two servers picked at
+   * random, rather than as the least loaded server.
+   */
+  private final boolean powerOfTwoChoices;
+
   private final ScheduledExecutorService estimateTimeoutProcessor =
       LoggingExecutors.newScheduledThreadPool(1, "loadEstimateTimeoutProcessor", false);
 
   public LocatorLoadSnapshot() {
+    this(Boolean.getBoolean(POWER_OF_TWO_CHOICES_PROPERTY_NAME));
+  }
+
+  @VisibleForTesting
+  LocatorLoadSnapshot(boolean powerOfTwoChoices) {
+    this.powerOfTwoChoices = powerOfTwoChoices;
     connectionLoadMap.put(null, new HashMap<>());
     queueLoadMap.put(null, new HashMap<>());
     String property = System.getProperty(LOAD_IMBALANCE_THRESHOLD_PROPERTY_NAME);
@@ -253,15 +269,18 @@ public class LocatorLoadSnapshot {
       return null;
     }
 
-    {
-      List bestLHs = findBestServers(groupServers, excludedServers, 1);
-      if (bestLHs.isEmpty()) {
-        return null;
-      }
-      LoadHolder lh = (LoadHolder) bestLHs.get(0);
-      lh.incConnections();
-      return lh.getLocation();
+    LoadHolder lh;
+    if (powerOfTwoChoices) {
+      lh = findServerFromTwoChoices(groupServers, excludedServers);
+    } else {
+      List<LoadHolder> bestLHs = findBestServers(groupServers, excludedServers, 1);
+      lh = bestLHs.isEmpty() ? null : bestLHs.get(0);
+    }
+    if (lh == null) {
+      return null;
     }
+    lh.incConnections();
+    return lh.getLocation();
   }
 
   public synchronized ArrayList getServers(String group) {
@@ -565,6 +584,39 @@ public class LocatorLoadSnapshot {
     return new ArrayList<>(bestEntries);
   }
 
+  /**
+   * Picks two of the servers that are not excluded at random and returns the less loaded of them.
+   * When many clients ask for connections between load updates this spreads them over the
+   * lightly loaded servers instead of sending all of them to the one with the lowest estimate.
+   *
+   * @return the chosen server, or null if every server is excluded
+   */
+  @VisibleForTesting
+  LoadHolder findServerFromTwoChoices(Map<ServerLocationAndMemberId, LoadHolder> groupServers,
+      Set<ServerLocation> excludedServers) {
+    List<LoadHolder> candidates = new ArrayList<>(groupServers.size());
+    for (Map.Entry<ServerLocationAndMemberId, LoadHolder> loadEntry : groupServers.entrySet()) {
+      if (!excludedServers.contains(loadEntry.getKey().getServerLocation())) {
+        candidates.add(loadEntry.getValue());
+      }
+    }
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    if (candidates.size() == 1) {
+      return candidates.get(0);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(candidates.size());
+    int second = random.nextInt(candidates.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+    LoadHolder firstLH = candidates.get(first);
+    LoadHolder secondLH = candidates.get(second);
+    return secondLH.getLoad() < firstLH.getLoad() ? secondLH : firstLH;
+  }
+
   /**
    * If it is most loaded then return its LoadHolder; otherwise return null;
    */
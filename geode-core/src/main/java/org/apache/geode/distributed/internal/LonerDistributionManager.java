@@ -584,6 +584,19 @@ public class LonerDistributionManager implements DistributionManager {
     @Override
     public void incBatchFlushTime(long start) {}
 
+    @Override
+    public void incCoalescedWrites(int messages, int bytes) {}
+
+    @Override
+    public long getCoalescedWrites() {
+      return 0;
+    }
+
+    @Override
+    public long getCoalescedMessages() {
+      return 0;
+    }
+
     @Override
     public void incUcastWriteBytes(long bytesWritten) {}
 
@@ -732,6 +745,22 @@ public class LonerDistributionManager implements DistributionManager {
     @Override
     public void incAsyncConflatedMsgs() {}
 
+    @Override
+    public long getAsyncConflatedBytes() {
+      return 0L;
+    }
+
+    @Override
+    public void incAsyncConflatedBytes(long bytes) {}
+
+    @Override
+    public long getAsyncQueueCompactions() {
+      return 0L;
+    }
+
+    @Override
+    public void incAsyncQueueCompactions() {}
+
     @Override
     public long getAsyncThreads() {
       return 0L;
@@ -26,6 +26,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.CancelCriterion;
 import org.apache.geode.InternalGemFireException;
+import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.annotations.internal.MakeNotStatic;
 import org.apache.geode.cache.TimeoutException;
 import org.apache.geode.distributed.DistributedSystemDisconnectedException;
@@ -89,6 +90,14 @@ public class ReplyProcessor21 implements MembershipListener {
    */
   public static final double PR_SEVERE_ALERT_RATIO;
 
+  /**
+   * Nanoseconds to busy-wait for replies before blocking on the latch. On a fast network replies
+   * often arrive within tens of microseconds, which is less than the cost of parking and waking the
+   * waiting thread. Disabled by default since the waiting thread consumes a CPU while spinning.
+   */
+  private static final long SPIN_WAIT_NANOS =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "ReplyProcessor21.SPIN_WAIT_NANOS", 0);
+
   /** All live reply processors in this VM */
   @MakeNotStatic
   protected static final ProcessorKeeper21 keeper = new ProcessorKeeper21();
@@ -668,6 +677,10 @@ public class ReplyProcessor21 implements MembershipListener {
       throw new InterruptedException();
     }
 
+    if (SPIN_WAIT_NANOS > 0 && stillWaiting()) {
+      spinWait(latch, SPIN_WAIT_NANOS);
+    }
+
     if (stillWaiting()) {
       long timeout = getAckWaitThreshold() * 1000L;
       long timeSoFar = System.currentTimeMillis() - this.initTime;
@@ -752,6 +765,18 @@ public class ReplyProcessor21 implements MembershipListener {
     return true;
   }
 
+  /**
+   * Busy-waits until the latch is released or the given number of nanoseconds has elapsed. The
+   * caller then awaits the latch as usual, which returns without parking if it was released.
+   */
+  @VisibleForTesting
+  static void spinWait(StoppableCountDownLatch latch, long nanos) {
+    final long deadline = System.nanoTime() + nanos;
+    while (latch.getCount() > 0 && System.nanoTime() - deadline < 0) {
+      // spin
+    }
+  }
+
   /**
    * Wait a given number of milliseconds for the expected acks to be received. If <code>msecs</code>
    * milliseconds pass before all acknowlegdements are received, <code>false</code> is returned.
@@ -66,6 +66,7 @@ import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
@@ -157,6 +158,26 @@ public abstract class InternalDataSerializer extends DataSerializer {
    */
   @MakeNotStatic
   private static final Map<String, DataSerializer> classesToSerializers = new ConcurrentHashMap<>();
+  /**
+   * Incremented whenever the result of {@link #getSerializer(Class)} may have changed because a
+   * DataSerializer, or the name of a class it supports, was registered or unregistered.
+   */
+  @MakeNotStatic
+  private static final AtomicInteger serializerRegistrationVersion = new AtomicInteger();
+  /**
+   * Caches the result of {@link #getSerializer(Class)} per class, including the absence of a
+   * serializer, so that writing an object does not look its class name up in
+   * classesToSerializers and supportedClassesToHolders every time. An entry is only used while
+   * serializerRegistrationVersion still has the value it was computed under.
+   */
+  @MakeNotStatic
+  private static final ClassValue<CachedSerializerHolder> cachedSerializers =
+      new ClassValue<CachedSerializerHolder>() {
+        @Override
+        protected CachedSerializerHolder computeValue(Class<?> type) {
+          return new CachedSerializerHolder();
+        }
+      };
   /**
    * This list contains classes that Geode's classes subclass, such as antlr AST classes which are
    * used by our Object Query Language. It also contains certain classes that are DataSerializable
@@ -1054,6 +1075,7 @@ public abstract class InternalDataSerializer extends DataSerializer {
         oldMarker.setSerializer(dsForMarkers);
       }
       m.setSerializer(dsForMarkers);
+      serializerRegistrationVersion.incrementAndGet();
     }
 
     // if dataserializer is getting registered for first time
@@ -1161,12 +1183,14 @@ public abstract class InternalDataSerializer extends DataSerializer {
         }
       }
     }
+    serializerRegistrationVersion.incrementAndGet();
   }
 
   public static void updateSupportedClassesMap(String dsClassName, String supportedClassName) {
     SerializerAttributesHolder holder = dsClassesToHolders.get(dsClassName);
     if (holder != null) {
       supportedClassesToHolders.putIfAbsent(supportedClassName, holder);
+      serializerRegistrationVersion.incrementAndGet();
     }
   }
 
@@ -1236,9 +1260,11 @@ public abstract class InternalDataSerializer extends DataSerializer {
       for (Class aClass : classes) {
         classesToSerializers.remove(aClass.getName(), s);
         supportedClassesToHolders.remove(aClass.getName());
+        cachedSerializers.remove(aClass);
       }
       dsClassesToHolders.remove(s.getClass().getName());
       idsToHolders.remove(idx);
+      serializerRegistrationVersion.incrementAndGet();
     }
   }
 
@@ -1250,6 +1276,7 @@ public abstract class InternalDataSerializer extends DataSerializer {
     dsClassesToHolders.clear();
     idsToHolders.clear();
     initializeWellKnownSerializers();
+    serializerRegistrationVersion.incrementAndGet();
   }
 
   /**
@@ -1258,6 +1285,20 @@ public abstract class InternalDataSerializer extends DataSerializer {
    * invoked when writing an object. If a serializer isn't available, then its the user's fault.
    */
   private static DataSerializer getSerializer(Class c) {
+    // read the version before looking anything up so that a registration that races with the
+    // lookup leaves behind an entry that is already stale
+    final int version = serializerRegistrationVersion.get();
+    final CachedSerializerHolder holder = cachedSerializers.get(c);
+    final CachedSerializer cached = holder.cached;
+    if (cached != null && cached.version == version) {
+      return cached.serializer;
+    }
+    final DataSerializer ds = lookupSerializer(c);
+    holder.cached = new CachedSerializer(version, ds);
+    return ds;
+  }
+
+  private static DataSerializer lookupSerializer(Class c) {
     DataSerializer ds = classesToSerializers.get(c.getName());
     if (ds == null) {
       SerializerAttributesHolder sah = supportedClassesToHolders.get(c.getName());
@@ -3207,6 +3248,24 @@ public abstract class InternalDataSerializer extends DataSerializer {
     void newDataSerializer(DataSerializer ds);
   }
 
+  /**
+   * The per-class slot in {@link #cachedSerializers}. It is replaced, rather than updated, when
+   * the registered DataSerializers change so that a reader always sees a consistent pair.
+   */
+  private static class CachedSerializerHolder {
+    volatile CachedSerializer cached;
+  }
+
+  private static class CachedSerializer {
+    final int version;
+    final DataSerializer serializer;
+
+    CachedSerializer(int version, DataSerializer serializer) {
+      this.version = version;
+      this.serializer = serializer;
+    }
+  }
+
   /**
    * A SerializerAttributesHolder holds information required to load a DataSerializer and exists to
    * allow client/server connections to be created more quickly than they would if the
@@ -331,10 +331,11 @@ public abstract class AbstractBucketRegionQueue extends BucketRegion {
 
     boolean didPut = false;
     long startPut = getStatisticsClock().getTime();
-    // Value will always be an instanceof GatewaySenderEventImpl which
-    // is never stored offheap so this EntryEventImpl values will never be off-heap.
-    // So the value that ends up being stored in this region is a GatewaySenderEventImpl
-    // which may have a reference to a value stored off-heap.
+    // Value will always be an instanceof GatewaySenderEventImpl on the heap, so this
+    // EntryEventImpl values will never be off-heap. If this region is on the heap, that
+    // GatewaySenderEventImpl is what ends up being stored, and it may have a reference to a value
+    // stored off-heap. If this region is off-heap (GatewaySender.QUEUE_OFF_HEAP), a serialized copy
+    // of it is stored off-heap instead and the reference is released once it has been stored.
     EntryEventImpl event =
         EntryEventImpl.create(this, Operation.UPDATE, key, value, null, false, getMyId());
     // here avoiding unnecessary validations of key, value. Readniness check
@@ -361,7 +362,9 @@ public abstract class AbstractBucketRegionQueue extends BucketRegion {
         throw new ForceReattemptException("Bucket moved", rde);
       }
     } finally {
-      if (!didPut) {
+      if (!didPut || getOffHeap()) {
+        // an off-heap queue stores a serialized copy of the event, so the event no longer needs
+        // its reference to the off-heap value
         GatewaySenderEventImpl.release(value);
       }
     }
@@ -15,15 +15,18 @@
 package org.apache.geode.internal.cache;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -50,7 +53,9 @@ import org.apache.geode.internal.cache.wan.parallel.BucketRegionQueueUnavailable
 import org.apache.geode.internal.cache.wan.parallel.ConcurrentParallelGatewaySenderQueue;
 import org.apache.geode.internal.concurrent.Atomics;
 import org.apache.geode.internal.offheap.OffHeapClearRequired;
+import org.apache.geode.internal.offheap.OffHeapHelper;
 import org.apache.geode.internal.offheap.annotations.Released;
+import org.apache.geode.internal.offheap.annotations.Retained;
 import org.apache.geode.internal.statistics.StatisticsClock;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 
@@ -71,6 +76,17 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
    */
   private final BlockingDeque<Object> eventSeqNumDeque = new LinkedBlockingDeque<Object>();
 
+  /**
+   * The keys of the eventSeqNumDeque in key order, so that a change stream can read the queue from
+   * an offset without walking it from its head. It is only built once the bucket is read as a
+   * change stream, and from then on every change to the eventSeqNumDeque is mirrored into it.
+   */
+  private volatile NavigableSet<Long> orderedKeys;
+
+  private final Object orderedKeysLock = new Object();
+
+  private boolean orderedKeysBuilt; // guarded by orderedKeysLock
+
   private final List<Object> markAsDuplicate = new ArrayList<Object>();
 
   private long lastKeyRecovered;
@@ -131,17 +147,21 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
             eventSeqNumDeque.addLast(eventID);
           }
         } else {
-          TreeSet<Long> sortedKeys = new TreeSet<Long>(this.keySet());
+          // sort an array rather than a TreeSet, which is much cheaper for the large number of
+          // keys a recovered queue can hold
+          Object[] sortedKeys = this.keySet().toArray();
+          Arrays.sort(sortedKeys);
           // although the empty check for this.keySet() is done above,
           // do the same for sortedKeys as well because the keySet() might have become
           // empty since the above check was made (keys might have been destroyed through
           // BatchRemoval)
           // fix for #49679 NoSuchElementException thrown from BucketRegionQueue.initialize
-          if (!sortedKeys.isEmpty()) {
-            for (Long key : sortedKeys) {
+          if (sortedKeys.length > 0) {
+            for (Object key : sortedKeys) {
               eventSeqNumDeque.addLast(key);
+              orderedKeyAdded(key);
             }
-            lastKeyRecovered = sortedKeys.last();
+            lastKeyRecovered = (Long) sortedKeys[sortedKeys.length - 1];
             if (this.getEventSeqNum() != null) {
               Atomics.setIfGreater(getEventSeqNum(), lastKeyRecovered);
             }
@@ -220,6 +240,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     });
     this.indexes.clear();
     this.eventSeqNumDeque.clear();
+    orderedKeysCleared();
     this.markAsDuplicate.clear();
   }
 
@@ -233,6 +254,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
       }
     });
     this.eventSeqNumDeque.clear();
+    orderedKeysCleared();
     this.markAsDuplicate.clear();
     return result.get();
   }
@@ -249,6 +271,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     try {
       this.indexes.clear();
       this.eventSeqNumDeque.clear();
+      orderedKeysCleared();
       this.markAsDuplicate.clear();
     } finally {
       getInitializationLock().writeLock().unlock();
@@ -394,6 +417,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
         logger.debug(" removing the key {} from eventSeqNumQueue", event.getKey());
       }
       this.eventSeqNumDeque.remove(event.getKey());
+      orderedKeyRemoved(event.getKey());
     }
   }
 
@@ -404,9 +428,18 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     // Get the object at that key (to remove the index).
     Object object = null;
     try {
-      object = getValueInVMOrDiskWithoutFaultIn(k);
-      if (object != null && object instanceof CachedDeserializable) {
-        object = ((CachedDeserializable) object).getDeserializedValue(this, this.getRegionEntry(k));
+      @Retained
+      Object value = getValueInVMOrDiskWithoutFaultIn(k);
+      try {
+        object = value;
+        if (object != null && object instanceof CachedDeserializable) {
+          object =
+              ((CachedDeserializable) object).getDeserializedValue(this, this.getRegionEntry(k));
+        }
+      } finally {
+        // an off-heap queue returns a retained reference, but the event it was deserialized into
+        // lives on the heap
+        OffHeapHelper.release(value);
       }
     } catch (EntryNotFoundException ok) {
       // just return null;
@@ -458,6 +491,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
         // //queue.addToPeekedKeys(key);
         // }
         this.eventSeqNumDeque.remove(key);
+        orderedKeyRemoved(key);
       }
       return object; // OFFHEAP: ok since callers are careful to do destroys on
                      // region queue after finished with peeked object.
@@ -489,6 +523,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
         if (matchingPredicate.test((InternalGatewayQueueEvent) event)) {
           elementsMatching.add(event);
           this.eventSeqNumDeque.remove(key);
+          orderedKeyRemoved(key);
           if (endPredicate.test((InternalGatewayQueueEvent) event)) {
             break;
           }
@@ -521,11 +556,94 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     }
   }
 
+  /**
+   * Returns, in key order, up to maxEvents of the queued events whose keys are at least fromKey.
+   * Unlike {@link #peek()} the events stay in the queue.
+   */
+  public List<GatewaySenderEventImpl> getEventsFrom(long fromKey, int maxEvents) {
+    getInitializationLock().readLock().lock();
+    try {
+      if (this.getPartitionedRegion().isDestroyed()) {
+        throw new BucketRegionQueueUnavailableException();
+      }
+      List<GatewaySenderEventImpl> events = new ArrayList<>();
+      for (Long key : getOrderedKeys().tailSet(fromKey)) {
+        if (events.size() >= maxEvents) {
+          break;
+        }
+        Object event = optimalGet(key);
+        if (event instanceof GatewaySenderEventImpl) {
+          events.add((GatewaySenderEventImpl) event);
+        }
+      }
+      return events;
+    } finally {
+      getInitializationLock().readLock().unlock();
+    }
+  }
+
+  /**
+   * Takes the keys of the queued events whose keys are less than the given key out of the queue,
+   * the same way {@link #peek()} does, so that the caller can destroy their events.
+   */
+  public List<Long> removeKeysBefore(long key) {
+    getInitializationLock().readLock().lock();
+    try {
+      List<Long> keys = new ArrayList<>(getOrderedKeys().headSet(key));
+      for (Long queuedKey : keys) {
+        this.eventSeqNumDeque.remove(queuedKey);
+        orderedKeyRemoved(queuedKey);
+      }
+      return keys;
+    } finally {
+      getInitializationLock().readLock().unlock();
+    }
+  }
+
+  private NavigableSet<Long> getOrderedKeys() {
+    synchronized (orderedKeysLock) {
+      if (!orderedKeysBuilt) {
+        NavigableSet<Long> keys = new ConcurrentSkipListSet<>();
+        // publish it before copying so that keys queued or removed meanwhile are mirrored into it
+        orderedKeys = keys;
+        for (Object key : eventSeqNumDeque) {
+          if (key instanceof Long) {
+            keys.add((Long) key);
+          }
+        }
+        orderedKeysBuilt = true;
+      }
+      return orderedKeys;
+    }
+  }
+
+  private void orderedKeyAdded(Object key) {
+    NavigableSet<Long> keys = orderedKeys;
+    if (keys != null && key instanceof Long) {
+      keys.add((Long) key);
+    }
+  }
+
+  private void orderedKeyRemoved(Object key) {
+    NavigableSet<Long> keys = orderedKeys;
+    if (keys != null && key instanceof Long) {
+      keys.remove(key);
+    }
+  }
+
+  private void orderedKeysCleared() {
+    NavigableSet<Long> keys = orderedKeys;
+    if (keys != null) {
+      keys.clear();
+    }
+  }
+
   @Override
   protected void addToEventQueue(Object key, boolean didPut, EntryEventImpl event) {
     if (didPut) {
       if (this.initialized) {
         this.eventSeqNumDeque.addLast(key);
+        orderedKeyAdded(key);
         updateLargestQueuedKey((Long) key);
       }
       if (logger.isDebugEnabled()) {
@@ -544,6 +662,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
 
   public void pushKeyIntoQueue(Object key) {
     eventSeqNumDeque.addFirst(key);
+    orderedKeyAdded(key);
   }
 
   private void updateLargestQueuedKey(Long key) {
@@ -600,6 +719,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
    */
   public Object remove() throws ForceReattemptException {
     Object key = this.eventSeqNumDeque.removeFirst();
+    orderedKeyRemoved(key);
     if (key != null) {
       destroyKey(key);
     }
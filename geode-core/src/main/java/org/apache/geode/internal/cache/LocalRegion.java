@@ -1369,6 +1369,9 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
       final boolean isCreate = value == null;
       isMiss = value == null || Token.isInvalid(value)
           || !returnTombstones && value == Token.TOMBSTONE;
+      if (!opScopeIsLocal && hasServerProxy() && getDataPolicy().withStorage()) {
+        recordClientCacheGet(isMiss);
+      }
       // Note: if the value was Token.DESTROYED then getDeserialized returns null
       if (isMiss) {
         // raise the precedence of opScopeIsLocal if scope is local and there is no loader,
@@ -1395,6 +1398,19 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
     }
   }
 
+  /**
+   * Records in the pool statistics whether a get on a caching client region was satisfied from
+   * the local cache or had to go to a server.
+   */
+  void recordClientCacheGet(boolean isMiss) {
+    PoolStats poolStats = getServerProxy().getPool().getStats();
+    if (isMiss) {
+      poolStats.incClientCacheMisses();
+    } else {
+      poolStats.incClientCacheHits();
+    }
+  }
+
   protected long startGet() {
     return getCachePerfStats().startGet();
   }
@@ -42,7 +42,9 @@ import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.CompiledGroupBySelect;
 import org.apache.geode.cache.query.internal.CompiledSelect;
+import org.apache.geode.cache.query.internal.CompiledValue;
 import org.apache.geode.cache.query.internal.DefaultQuery;
 import org.apache.geode.cache.query.internal.ExecutionContext;
 import org.apache.geode.cache.query.internal.NWayMergeResults;
@@ -177,7 +179,7 @@ public class PRQueryProcessor {
         if (cs != null && (cs.isOrderBy() || cs.isGroupBy())) {
           ExecutionContext context = new QueryExecutionContext(this.parameters, pr.getCache());
           int limit = this.query.getLimit(parameters);
-          Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, limit);
+          Collection mergedResults = mergeBucketResults(resultCollector, context, cs, limit);
           resultCollector.clear();
           resultCollector.add(mergedResults);
         }
@@ -206,7 +208,7 @@ public class PRQueryProcessor {
         context.setBucketList(singleBucket);
         executeQueryOnBuckets(resultCollector, context);
       }
-      Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, limit);
+      Collection mergedResults = mergeBucketResults(resultCollector, context, cs, limit);
       resultCollector.clear();
       resultCollector.add(mergedResults);
 
@@ -216,6 +218,19 @@ public class PRQueryProcessor {
     }
   }
 
+  /**
+   * Merges the ordered results of each bucket. The limit of a group by query applies to the groups,
+   * not to the rows of each bucket, so it is left to the query node.
+   */
+  private Collection mergeBucketResults(Collection<Collection> resultCollector,
+      ExecutionContext context, CompiledSelect cs, int limit) throws QueryException {
+    if (cs.getType() == CompiledValue.GROUP_BY_SELECT) {
+      Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, -1);
+      return combineBucketResults(mergedResults, (CompiledGroupBySelect) cs);
+    }
+    return coalesceOrderedResults(resultCollector, context, cs, limit);
+  }
+
   private Collection coalesceOrderedResults(Collection<Collection> results,
       ExecutionContext context, CompiledSelect cs, int limit) {
     List<Collection> sortedResults = new ArrayList<Collection>(results.size());
@@ -231,6 +246,20 @@ public class PRQueryProcessor {
 
   }
 
+  /**
+   * Group by queries are executed per bucket, so the merged results hold a row per group for every
+   * bucket. Combine the partial aggregates of those rows so that only one row per group is sent to
+   * the query node, which then aggregates the rows received from each data store.
+   */
+  private Collection combineBucketResults(Collection mergedResults, CompiledGroupBySelect cgs)
+      throws QueryException {
+    ExecutionContext context =
+        new QueryExecutionContext(this.parameters, this.pr.getCache(), this.query);
+    context.setBucketList(this._bucketsToQuery);
+    context.setIsBucketResultsCombiner(true);
+    return cgs.applyAggregateAndGroupBy((SelectResults) mergedResults, context);
+  }
+
   private void executeQueryOnBuckets(Collection<Collection> resultCollector,
       ExecutionContext context)
       throws ForceReattemptException, QueryInvocationTargetException, QueryException {
@@ -77,6 +77,12 @@ public class PoolStats {
   private static final int clientOpFailedId;
   private static final int clientOpDurationId;
 
+  private static final int clientCacheHitsId;
+  private static final int clientCacheMissesId;
+  private static final int clientCacheInvalidatesId;
+  private static final int clientCacheInvalidateStalenessId;
+  private static final int clientCacheInvalidateStalenessSamplesId;
+
   static {
     String statName = "PoolStats";
 
@@ -145,7 +151,22 @@ public class PoolStats {
             f.createLongCounter("clientOpSendTime",
                 "Total amount of time, in nanoseconds spent doing clientOp sends", "nanoseconds"),
             f.createLongCounter("clientOpTime",
-                "Total amount of time, in nanoseconds spent doing clientOps", "nanoseconds"),});
+                "Total amount of time, in nanoseconds spent doing clientOps", "nanoseconds"),
+            f.createLongCounter("clientCacheHits",
+                "Total number of gets on caching client regions using this pool that were satisfied from the local cache",
+                "operations"),
+            f.createLongCounter("clientCacheMisses",
+                "Total number of gets on caching client regions using this pool that were not satisfied from the local cache",
+                "operations"),
+            f.createLongCounter("clientCacheInvalidates",
+                "Total number of entry invalidations received from servers for client regions using this pool",
+                "operations"),
+            f.createLongCounter("clientCacheInvalidateStaleness",
+                "Total amount of time, in milliseconds, between the server modifications and the arrival of the versioned entry invalidations for client regions using this pool",
+                "milliseconds"),
+            f.createLongCounter("clientCacheInvalidateStalenessSamples",
+                "Total number of versioned entry invalidations whose staleness is included in clientCacheInvalidateStaleness",
+                "operations"),});
 
     // Initialize id fields
     _INITIAL_CONTACTS = _type.nameToId(INITIAL_CONTACTS);
@@ -181,6 +202,13 @@ public class PoolStats {
     clientOpTimedOutId = _type.nameToId("clientOpTimeouts");
     clientOpFailedId = _type.nameToId("clientOpFailures");
     clientOpDurationId = _type.nameToId("clientOpTime");
+
+    clientCacheHitsId = _type.nameToId("clientCacheHits");
+    clientCacheMissesId = _type.nameToId("clientCacheMisses");
+    clientCacheInvalidatesId = _type.nameToId("clientCacheInvalidates");
+    clientCacheInvalidateStalenessId = _type.nameToId("clientCacheInvalidateStaleness");
+    clientCacheInvalidateStalenessSamplesId =
+        _type.nameToId("clientCacheInvalidateStalenessSamples");
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -370,4 +398,45 @@ public class PoolStats {
     this._stats.incInt(endClientOpId, 1);
     this._stats.incLong(clientOpDurationId, duration);
   }
+
+  public void incClientCacheHits() {
+    this._stats.incLong(clientCacheHitsId, 1);
+  }
+
+  public long getClientCacheHits() {
+    return this._stats.getLong(clientCacheHitsId);
+  }
+
+  public void incClientCacheMisses() {
+    this._stats.incLong(clientCacheMissesId, 1);
+  }
+
+  public long getClientCacheMisses() {
+    return this._stats.getLong(clientCacheMissesId);
+  }
+
+  public void incClientCacheInvalidates() {
+    this._stats.incLong(clientCacheInvalidatesId, 1);
+  }
+
+  public long getClientCacheInvalidates() {
+    return this._stats.getLong(clientCacheInvalidatesId);
+  }
+
+  /**
+   * Records how long after the server modification a versioned invalidation reached this client.
+   * Negative values, caused by clock skew between the members, are recorded as zero.
+   */
+  public void incClientCacheInvalidateStaleness(long stalenessMillis) {
+    this._stats.incLong(clientCacheInvalidateStalenessId, Math.max(0, stalenessMillis));
+    this._stats.incLong(clientCacheInvalidateStalenessSamplesId, 1);
+  }
+
+  public long getClientCacheInvalidateStaleness() {
+    return this._stats.getLong(clientCacheInvalidateStalenessId);
+  }
+
+  public long getClientCacheInvalidateStalenessSamples() {
+    return this._stats.getLong(clientCacheInvalidateStalenessSamplesId);
+  }
 }
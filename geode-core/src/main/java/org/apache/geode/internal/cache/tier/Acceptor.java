@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier;
 import org.apache.geode.internal.cache.tier.sockets.CacheServerStats;
@@ -25,6 +26,7 @@ import org.apache.geode.internal.cache.tier.sockets.ClientHealthMonitor;
 import org.apache.geode.internal.cache.tier.sockets.CommBufferPool;
 import org.apache.geode.internal.cache.tier.sockets.ConnectionListener;
 import org.apache.geode.internal.cache.tier.sockets.ServerConnection;
+import org.apache.geode.internal.cache.wan.AppliedEventWatermarks;
 import org.apache.geode.internal.net.SocketCloser;
 
 /**
@@ -89,6 +91,18 @@ public interface Acceptor extends CommBufferPool {
 
   boolean isGatewayReceiver();
 
+  /**
+   * Returns the watermarks of the events this gateway receiver applied, or null if this is not a
+   * gateway receiver or replay deduplication is disabled.
+   */
+  AppliedEventWatermarks getAppliedEventWatermarks();
+
+  /**
+   * Returns the threads that apply the events of a gateway batch in parallel, or null if this is
+   * not a gateway receiver or batches are applied by the ServerConnection thread alone.
+   */
+  ExecutorService getParallelApplyExecutor();
+
   boolean isSelector();
 
   InetAddress getServerInetAddress();
@@ -89,6 +89,8 @@ import org.apache.geode.internal.cache.tier.CommunicationMode;
 import org.apache.geode.internal.cache.tier.OverflowAttributes;
 import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier.CacheClientNotifierProvider;
 import org.apache.geode.internal.cache.tier.sockets.ClientHealthMonitor.ClientHealthMonitorProvider;
+import org.apache.geode.internal.cache.tier.sockets.command.GatewayReceiverCommand;
+import org.apache.geode.internal.cache.wan.AppliedEventWatermarks;
 import org.apache.geode.internal.cache.wan.GatewayReceiverStats;
 import org.apache.geode.internal.inet.LocalHostUtil;
 import org.apache.geode.internal.logging.CoreLoggingExecutors;
@@ -341,6 +343,10 @@ public class AcceptorImpl implements Acceptor, Runnable {
 
   private final boolean isGatewayReceiver;
 
+  private final AppliedEventWatermarks appliedEventWatermarks;
+
+  private final ExecutorService parallelApplyExecutor;
+
   private final List<GatewayTransportFilter> gatewayTransportFilters;
   private final StatisticsClock statisticsClock;
 
@@ -439,6 +445,13 @@ public class AcceptorImpl implements Acceptor, Runnable {
     this.statisticsClock = statisticsClock;
 
     this.isGatewayReceiver = isGatewayReceiver;
+    this.appliedEventWatermarks =
+        isGatewayReceiver && !AppliedEventWatermarks.DISABLE_REPLAY_DEDUPLICATION
+            ? new AppliedEventWatermarks(
+                AppliedEventWatermarks.MAXIMUM_REPLAY_DEDUPLICATION_THREADS)
+            : null;
+    this.parallelApplyExecutor =
+        isGatewayReceiver ? GatewayReceiverCommand.createParallelApplyExecutor() : null;
     this.gatewayTransportFilters = gatewayTransportFilters;
 
     this.bindHostName = calcBindHostName(internalCache, bindHostName);
@@ -1621,6 +1634,12 @@ public class AcceptorImpl implements Acceptor, Runnable {
         clientNotifier.shutdown(acceptorId);
         shutdownPools();
         stats.close();
+        if (parallelApplyExecutor != null) {
+          parallelApplyExecutor.shutdown();
+        }
+        if (appliedEventWatermarks != null) {
+          appliedEventWatermarks.clear();
+        }
         if (!cache.isClosed()) {
           // the cache isn't closing so we need to inform peers that this CacheServer no longer
           // exists
@@ -1710,6 +1729,7 @@ public class AcceptorImpl implements Acceptor, Runnable {
         && (selectorThread == null || !selectorThread.isAlive())
         && (pool == null || pool.isShutdown()) && (hsPool == null || hsPool.isShutdown())
         && (clientQueueInitPool == null || clientQueueInitPool.isShutdown())
+        && (parallelApplyExecutor == null || parallelApplyExecutor.isShutdown())
         && (selector == null || !selector.isOpen()) && (tmpSel == null || !tmpSel.isOpen());
   }
 
@@ -1816,6 +1836,16 @@ public class AcceptorImpl implements Acceptor, Runnable {
     return isGatewayReceiver;
   }
 
+  @Override
+  public AppliedEventWatermarks getAppliedEventWatermarks() {
+    return appliedEventWatermarks;
+  }
+
+  @Override
+  public ExecutorService getParallelApplyExecutor() {
+    return parallelApplyExecutor;
+  }
+
   public List<GatewayTransportFilter> getGatewayTransportFilters() {
     return gatewayTransportFilters;
   }
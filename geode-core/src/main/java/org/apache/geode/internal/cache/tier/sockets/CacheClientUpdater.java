@@ -71,6 +71,7 @@ import org.apache.geode.internal.cache.EventID;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.PoolStats;
 import org.apache.geode.internal.cache.tier.CachedRegionHelper;
 import org.apache.geode.internal.cache.tier.ClientSideHandshake;
 import org.apache.geode.internal.cache.tier.MessageType;
@@ -784,6 +785,19 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
     return result;
   }
 
+  /**
+   * Counts an invalidation received for a caching client region and, when the server sent the
+   * version of the modification, how long after that modification it arrived here.
+   */
+  static void recordClientCacheInvalidate(PoolStats poolStats, LocalRegion region,
+      VersionTag versionTag) {
+    poolStats.incClientCacheInvalidates();
+    if (versionTag != null && versionTag.getVersionTimeStamp() != 0) {
+      poolStats.incClientCacheInvalidateStaleness(
+          region.cacheTimeMillis() - versionTag.getVersionTimeStamp());
+    }
+  }
+
   /**
    * Invalidate an entry
    *
@@ -853,6 +867,7 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
             this.isOpCompleted = true;
             // fix for 36615
             this.qManager.getState().incrementInvalidatedStats();
+            recordClientCacheInvalidate(this.qManager.getPool().getStats(), region, versionTag);
 
             if (isDebugEnabled) {
               logger.debug("Invalidated entry for region: {} key: {} callbackArgument: {}",
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.geode.DataSerializer;
 import org.apache.geode.GemFireIOException;
 import org.apache.geode.InternalGemFireError;
+import org.apache.geode.SerializationException;
 import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.cache.query.internal.cq.InternalCqQuery;
 import org.apache.geode.cache.util.ObjectSizer;
@@ -48,6 +49,7 @@ import org.apache.geode.internal.serialization.DeserializationContext;
 import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.internal.serialization.SerializationContext;
 import org.apache.geode.internal.size.Sizeable;
+import org.apache.geode.internal.util.BlobHelper;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 
 /**
@@ -143,6 +145,14 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
   private VersionTag<?> versionTag;
 
+  /**
+   * The serialized forms of the parts that are identical for every client this message is
+   * dispatched to. A single instance of this message is shared by all the
+   * <code>CacheClientProxy</code> queues it is enqueued in, so these are serialized by the first
+   * dispatcher and reused by the rest.
+   */
+  private transient volatile SharedParts sharedParts;
+
   /* added up all constants and form single value */
   private static final int CONSTANT_MEMORY_OVERHEAD;
 
@@ -387,6 +397,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
     Message message;
     ClientProxyMembershipID proxyId = proxy.getProxyID();
+    SharedParts shared = getSharedParts(clientVersion);
     // Add CQ info.
     int cqMsgParts = 0;
     boolean clientHasCq = _hasCqs && (getCqs(proxyId) != null);
@@ -406,21 +417,21 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         message = getMessage(7 + cqMsgParts, clientVersion);
         message.setMessageType(MessageType.LOCAL_INVALIDATE);
         message.addStringPart(_regionName, true);
-        message.addStringOrObjPart(_keyOfInterest);
+        addKeyPart(message, shared);
       } else {
         // Notify by subscription - send the value
         message = getMessage(9 + cqMsgParts, clientVersion);
         if (isCreate()) {
           message.setMessageType(MessageType.LOCAL_CREATE);
           message.addStringPart(_regionName, true);
-          message.addStringOrObjPart(_keyOfInterest);
+          addKeyPart(message, shared);
           message.addObjPart(Boolean.FALSE); // NO delta
           // Add the value (which has already been serialized)
           message.addRawPart(latestValue, (_valueIsObject == 0x01));
         } else {
           message.setMessageType(MessageType.LOCAL_UPDATE);
           message.addStringPart(_regionName, true);
-          message.addStringOrObjPart(_keyOfInterest);
+          addKeyPart(message, shared);
 
           if (deltaBytes != null && !conflation && !proxy.isMarkerEnqueued()
               && !proxy.getRegionsWithEmptyDataPolicy().containsKey(_regionName)) {
@@ -441,7 +452,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         }
       }
 
-      message.addObjPart(_callbackArgument);
+      addCallbackArgumentPart(message, shared);
       if (versionTag != null) {
         versionTag.setCanonicalIDs(proxy.getCache().getDistributionManager());
       }
@@ -468,8 +479,8 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         message.setMessageType(MessageType.LOCAL_INVALIDATE);
       }
       message.addStringPart(_regionName, true);
-      message.addStringOrObjPart(_keyOfInterest);
-      message.addObjPart(_callbackArgument);
+      addKeyPart(message, shared);
+      addCallbackArgumentPart(message, shared);
       message.addObjPart(versionTag);
       message.addObjPart(isClientInterested(proxyId));
       message.addObjPart(clientHasCq);
@@ -486,7 +497,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.LOCAL_DESTROY_REGION);
       message.addStringPart(_regionName, true);
-      message.addObjPart(_callbackArgument);
+      addCallbackArgumentPart(message, shared);
       message.addObjPart(clientHasCq);
 
       if (clientHasCq) {
@@ -496,7 +507,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.CLEAR_REGION);
       message.addStringPart(_regionName, true);
-      message.addObjPart(_callbackArgument);
+      addCallbackArgumentPart(message, shared);
       message.addObjPart(clientHasCq);
 
       if (clientHasCq) {
@@ -506,7 +517,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.INVALIDATE_REGION);
       message.addStringPart(_regionName, true);
-      message.addObjPart(_callbackArgument);
+      addCallbackArgumentPart(message, shared);
 
       // Add CQ status.
       message.addObjPart(clientHasCq);
@@ -521,10 +532,89 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     message.setTransactionId(0);
     // Add the EventId since 5.1 (used to prevent duplicate events
     // received on the client side after a failover)
-    message.addObjPart(_eventIdentifier);
+    if (shared.eventIdentifier == null) {
+      message.addObjPart(_eventIdentifier);
+    } else {
+      message.addRawPart(shared.eventIdentifier, true);
+    }
     return message;
   }
 
+  private SharedParts getSharedParts(KnownVersion clientVersion) {
+    SharedParts parts = sharedParts;
+    if (parts == null || !parts.version.equals(clientVersion)) {
+      // Messages for clients of differing versions may race here, in which case the last one
+      // wins and the next dispatcher of the other version serializes again.
+      parts = new SharedParts(clientVersion, _keyOfInterest, _callbackArgument, _eventIdentifier);
+      sharedParts = parts;
+    }
+    return parts;
+  }
+
+  private void addKeyPart(Message message, SharedParts shared) {
+    if (shared.key == null) {
+      message.addStringOrObjPart(_keyOfInterest);
+    } else {
+      message.addRawPart(shared.key, true);
+    }
+  }
+
+  private void addCallbackArgumentPart(Message message, SharedParts shared) {
+    if (shared.callbackArgument == null) {
+      message.addObjPart(_callbackArgument);
+    } else {
+      message.addRawPart(shared.callbackArgument, true);
+    }
+  }
+
+  /**
+   * Holds the serialized key, callback argument and event id of a
+   * <code>ClientUpdateMessageImpl</code> for one client version. The key and callback argument
+   * are only held when <code>Message</code> would serialize them as objects; strings, byte arrays,
+   * booleans and nulls are cheap to add and are left to <code>Message</code>.
+   */
+  private static class SharedParts {
+    private final KnownVersion version;
+    private final byte[] key;
+    private final byte[] callbackArgument;
+    private final byte[] eventIdentifier;
+
+    private SharedParts(KnownVersion version, Object key, Object callbackArgument,
+        EventID eventIdentifier) {
+      this.version = version;
+      this.key = key instanceof String ? null : serialize(key, version);
+      this.callbackArgument =
+          callbackArgument instanceof byte[] || callbackArgument instanceof Boolean ? null
+              : serialize(callbackArgument, version);
+      this.eventIdentifier = serialize(eventIdentifier, version);
+    }
+
+    private int getSizeInBytes() {
+      // the object and its four references
+      int size = Sizeable.PER_OBJECT_OVERHEAD + 16;
+      size += sizeOf(key);
+      size += sizeOf(callbackArgument);
+      size += sizeOf(eventIdentifier);
+      return size;
+    }
+
+    private static int sizeOf(byte[] bytes) {
+      return bytes == null ? 0 : CachedDeserializableFactory.getByteSize(bytes);
+    }
+
+    private static byte[] serialize(Object o, KnownVersion version) {
+      if (o == null) {
+        return null;
+      }
+      try {
+        return BlobHelper.serializeToBlob(o,
+            version.equals(KnownVersion.CURRENT) ? null : version);
+      } catch (IOException ex) {
+        throw new SerializationException("failed serializing object", ex);
+      }
+    }
+  }
+
   private static final ThreadLocal<Map<Integer, Message>> CACHED_MESSAGES =
       ThreadLocal.withInitial(HashMap::new);
 
@@ -912,6 +1002,12 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
     // The sizeOf call gets the size of the input callback argument.
     size += sizeOf(getOriginalCallbackArgument());
+
+    // The parts serialized by the first dispatcher of this message
+    SharedParts shared = sharedParts;
+    if (shared != null) {
+      size += shared.getSizeInBytes();
+    }
     return size;
   }
 
@@ -620,13 +620,16 @@ public class Message {
           commBuffer.put(part.getTypeCode());
           if (partLen <= commBuffer.remaining()) {
             part.writeTo(commBuffer);
+          } else if (this.socketChannel != null) {
+            // the bytes pending in commBuffer are sent along with the part
+            int pendingLen = commBuffer.position();
+            part.writeTo(this.socketChannel, commBuffer);
+            if (this.messageStats != null) {
+              this.messageStats.incSentBytes(pendingLen + partLen);
+            }
           } else {
             flushBuffer();
-            if (this.socketChannel != null) {
-              part.writeTo(this.socketChannel, commBuffer);
-            } else {
-              part.writeTo(this.outputStream, commBuffer);
-            }
+            part.writeTo(this.outputStream, commBuffer);
             if (this.messageStats != null) {
               this.messageStats.incSentBytes(partLen);
             }
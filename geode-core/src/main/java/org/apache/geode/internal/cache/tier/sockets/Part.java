@@ -394,9 +394,10 @@ public class Part {
             if (buf.remaining() == 0) {
               HeapDataOutputStream.flushStream(out, buf);
             }
-            buf.put(AddressableMemoryManager.readByte(addr));
-            addr++;
-            bytesToSend--;
+            int bytesThisTime = Math.min(bytesToSend, buf.remaining());
+            copyToBuffer(addr, bytesThisTime, buf);
+            addr += bytesThisTime;
+            bytesToSend -= bytesThisTime;
           }
         }
       } else {
@@ -426,11 +427,7 @@ public class Part {
         } else {
           int bytesToSend = c.getDataSize();
           long addr = c.getAddressForReadingData(0, bytesToSend);
-          while (bytesToSend > 0) {
-            buf.put(AddressableMemoryManager.readByte(addr));
-            addr++;
-            bytesToSend--;
-          }
+          copyToBuffer(addr, bytesToSend, buf);
         }
       } else {
         HeapDataOutputStream hdos = (HeapDataOutputStream) this.part;
@@ -446,29 +443,22 @@ public class Part {
   /**
    * Write the contents of this part to the specified socket channel using the specified byte
    * buffer. This is only called for parts that will not fit into the commBuffer so they need to be
-   * written directly to the socket. Precondition: buf contains nothing that needs to be sent
+   * written directly to the socket. Any bytes already in buf, such as the header of this part, are
+   * sent ahead of the contents, in the same write when the contents can be sent from a direct
+   * buffer. On return buf is empty.
    */
   public void writeTo(SocketChannel sc, ByteBuffer buf) throws IOException {
     if (getLength() > 0) {
-      final int BUF_MAX = buf.capacity();
       if (this.part instanceof byte[]) {
         final byte[] bytes = (byte[]) this.part;
         int off = 0;
         int len = bytes.length;
-        buf.clear();
         while (len > 0) {
-          int bytesThisTime = len;
-          if (bytesThisTime > BUF_MAX) {
-            bytesThisTime = BUF_MAX;
-          }
+          int bytesThisTime = Math.min(len, buf.remaining());
           buf.put(bytes, off, bytesThisTime);
           len -= bytesThisTime;
           off += bytesThisTime;
-          buf.flip();
-          while (buf.remaining() > 0) {
-            sc.write(buf);
-          }
-          buf.clear();
+          flushBuffer(sc, buf);
         }
       } else if (this.part instanceof StoredObject) {
         // instead of copying the StoredObject to buf try to create a direct ByteBuffer and
@@ -476,32 +466,25 @@ public class Part {
         StoredObject c = (StoredObject) this.part;
         ByteBuffer bb = c.createDirectByteBuffer();
         if (bb != null) {
+          buf.flip();
+          ByteBuffer[] buffers = {buf, bb};
           while (bb.remaining() > 0) {
-            sc.write(bb);
+            sc.write(buffers);
           }
+          buf.clear();
         } else {
           int len = c.getDataSize();
           long addr = c.getAddressForReadingData(0, len);
-          buf.clear();
           while (len > 0) {
-            int bytesThisTime = len;
-            if (bytesThisTime > BUF_MAX) {
-              bytesThisTime = BUF_MAX;
-            }
+            int bytesThisTime = Math.min(len, buf.remaining());
+            copyToBuffer(addr, bytesThisTime, buf);
+            addr += bytesThisTime;
             len -= bytesThisTime;
-            while (bytesThisTime > 0) {
-              buf.put(AddressableMemoryManager.readByte(addr));
-              addr++;
-              bytesThisTime--;
-            }
-            buf.flip();
-            while (buf.remaining() > 0) {
-              sc.write(buf);
-            }
-            buf.clear();
+            flushBuffer(sc, buf);
           }
         }
       } else {
+        flushBuffer(sc, buf);
         HeapDataOutputStream hdos = (HeapDataOutputStream) this.part;
         try {
           hdos.sendTo(sc, buf);
@@ -510,6 +493,40 @@ public class Part {
         }
       }
     }
+    flushBuffer(sc, buf);
+  }
+
+  private static void flushBuffer(SocketChannel sc, ByteBuffer buf) throws IOException {
+    if (buf.position() == 0) {
+      return;
+    }
+    buf.flip();
+    while (buf.remaining() > 0) {
+      sc.write(buf);
+    }
+    buf.clear();
+  }
+
+  /**
+   * Copies size bytes of off-heap memory at addr into buf. The copy is done in bulk when the
+   * memory backing buf can be addressed, rather than one byte at a time.
+   */
+  private static void copyToBuffer(long addr, int size, ByteBuffer buf) {
+    if (buf.hasArray()) {
+      AddressableMemoryManager.readBytes(addr, buf.array(), buf.arrayOffset() + buf.position(),
+          size);
+      buf.position(buf.position() + size);
+      return;
+    }
+    long bufAddr = AddressableMemoryManager.getDirectByteBufferAddress(buf);
+    if (bufAddr != 0L) {
+      AddressableMemoryManager.copyMemory(addr, bufAddr + buf.position(), size);
+      buf.position(buf.position() + size);
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      buf.put(AddressableMemoryManager.readByte(addr + i));
+    }
   }
 
   private static String typeCodeToString(byte c) {
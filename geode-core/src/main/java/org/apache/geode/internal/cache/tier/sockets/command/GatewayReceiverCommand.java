@@ -16,7 +16,9 @@ package org.apache.geode.internal.cache.tier.sockets.command;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.geode.CancelException;
 import org.apache.geode.annotations.Immutable;
@@ -41,24 +43,51 @@ import org.apache.geode.internal.cache.tier.sockets.Message;
 import org.apache.geode.internal.cache.tier.sockets.Part;
 import org.apache.geode.internal.cache.tier.sockets.ServerConnection;
 import org.apache.geode.internal.cache.versions.VersionTag;
+import org.apache.geode.internal.cache.wan.AppliedEventWatermarks;
 import org.apache.geode.internal.cache.wan.BatchException70;
 import org.apache.geode.internal.cache.wan.GatewayReceiverStats;
 import org.apache.geode.internal.security.AuthorizeRequest;
 import org.apache.geode.internal.security.SecurityService;
+import org.apache.geode.internal.sequencelog.EntryLogger;
 import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.internal.tcp.ConnectionTable;
 import org.apache.geode.internal.util.BlobHelper;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.pdx.PdxConfigurationException;
 import org.apache.geode.pdx.PdxRegistryMismatchException;
 import org.apache.geode.pdx.internal.EnumId;
 import org.apache.geode.pdx.internal.EnumInfo;
 import org.apache.geode.pdx.internal.PdxType;
 import org.apache.geode.pdx.internal.PeerTypeRegistration;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 public class GatewayReceiverCommand extends BaseCommand {
 
   @Immutable
   private static final GatewayReceiverCommand SINGLETON = new GatewayReceiverCommand();
 
+  /**
+   * When greater than one, the events of a batch are applied by this many threads, the
+   * ServerConnection thread included. Events for the same entry are still applied in batch order.
+   * Only batches from senders that remove events from their queue on exception are applied in
+   * parallel, since retrying a failed event in place is inherently sequential.
+   */
+  private static final int PARALLEL_APPLY_THREADS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GatewayReceiver.PARALLEL_APPLY_THREADS", 0);
+
+  /**
+   * Creates the threads that apply the events of a batch along with the ServerConnection thread, or
+   * returns null if batches are applied by the ServerConnection thread alone. Each gateway receiver
+   * acceptor owns one and shuts it down when it is closed.
+   */
+  public static ExecutorService createParallelApplyExecutor() {
+    if (PARALLEL_APPLY_THREADS <= 1) {
+      return null;
+    }
+    return LoggingExecutors.newFixedThreadPool(PARALLEL_APPLY_THREADS - 1,
+        "GatewayReceiverBatchApplier", true);
+  }
+
   public static Command getCommand() {
     return SINGLETON;
   }
@@ -88,6 +117,7 @@ public class GatewayReceiverCommand extends BaseCommand {
       start = DistributionStats.getStatTime();
       stats.incReadProcessBatchRequestTime(start - oldStart);
     }
+    long applyStart = start;
 
     stats.incBatchSize(clientMessage.getPayloadLength());
 
@@ -151,6 +181,19 @@ public class GatewayReceiverCommand extends BaseCommand {
     Part valuePart = null;
     Throwable fatalException = null;
     List<BatchException70> exceptions = new ArrayList<>();
+    ExecutorService parallelApplyExecutor =
+        serverConnection.getAcceptor().getParallelApplyExecutor();
+    KeyOrderedBatchApplier batchApplier =
+        parallelApplyExecutor != null && removeOnException && numberOfEvents > 1
+                && !shouldMasqueradeForTx(clientMessage)
+            ? new KeyOrderedBatchApplier(parallelApplyExecutor, PARALLEL_APPLY_THREADS,
+                task -> inConnectionContext(serverConnection, task))
+            : null;
+    AppliedEventWatermarks appliedEventWatermarks =
+        serverConnection.getAcceptor().getAppliedEventWatermarks();
+    AppliedEventWatermarks.Batch appliedBatch =
+        appliedEventWatermarks != null ? new AppliedEventWatermarks.Batch() : null;
+    int eventsSkipped = 0;
     for (int i = 0; i < numberOfEvents; i++) {
       indexWithoutPDXEvent++;
 
@@ -213,6 +256,14 @@ public class GatewayReceiverCommand extends BaseCommand {
             break;
           }
 
+          // A replayed event of a batch this receiver already applied is skipped without looking
+          // up its version tag
+          boolean alreadyApplied = false;
+          if (appliedBatch != null && !isPdxEvent) {
+            alreadyApplied = possibleDuplicate && appliedEventWatermarks.isApplied(eventId);
+            appliedBatch.add(eventId);
+          }
+
           // Retrieve the key from the message parts
           Part keyPart = clientMessage.getPart(partNumber + 4);
           try {
@@ -276,6 +327,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                       regionName, key, valuePart, callbackArg, eventId);
                 }
                 versionTimeStamp = clientMessage.getPart(index++).getLong();
+                stats.recordEventReceiveLag(versionTimeStamp);
                 // Process the create request
                 if (key == null || regionName == null) {
                   String message = null;
@@ -292,6 +344,10 @@ public class GatewayReceiverCommand extends BaseCommand {
                 region = (LocalRegion) crHelper.getCacheForGatewayCommand().getRegion(regionName);
                 if (region == null) {
                   handleRegionNull(serverConnection, regionName, batchId);
+                } else if (alreadyApplied) {
+                  stats.incDuplicateEventsSkipped();
+                  eventsSkipped++;
+                  retry = false;
                 } else {
                   clientEvent = new EventIDHolder(eventId);
                   if (versionTimeStamp > 0) {
@@ -315,31 +371,16 @@ public class GatewayReceiverCommand extends BaseCommand {
                     isObject = putContext.isObject();
                   }
                   // Attempt to create the entry
-                  boolean result = false;
                   if (isPdxEvent) {
-                    result = addPdxType(crHelper, key, value);
-                  } else {
-                    result = region.basicBridgeCreate(key, value, isObject, callbackArg,
-                        serverConnection.getProxyID(), false, clientEvent, false);
-                    // If the create fails (presumably because it already exists),
-                    // attempt to update the entry
-                    if (!result) {
-                      result = region.basicBridgePut(key, value, null, isObject, callbackArg,
-                          serverConnection.getProxyID(), false, clientEvent);
-                    }
-                  }
-
-                  if (result || clientEvent.isConcurrencyConflict()) {
+                    addPdxType(crHelper, key, value);
                     serverConnection.setModificationInfo(true, regionName, key);
                     stats.incCreateRequest();
-                    retry = false;
                   } else {
-                    // This exception will be logged in the catch block below
-                    throw new Exception(
-                        String.format(
-                            "%s: Failed to create or update entry for region %s key %s value %s callbackArg %s",
-                            serverConnection.getName(), regionName, key, valuePart, callbackArg));
+                    applyCreate(batchApplier, indexWithoutPDXEvent, serverConnection, stats,
+                        region, regionName, key, value, isObject, callbackArg, clientEvent,
+                        valuePart);
                   }
+                  retry = false;
                 }
               } catch (Exception e) {
                 logger.warn(String.format(
@@ -380,6 +421,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                   }
                 }
                 versionTimeStamp = clientMessage.getPart(index++).getLong();
+                stats.recordEventReceiveLag(versionTimeStamp);
                 if (logger.isDebugEnabled()) {
                   logger.debug(
                       "{}: Processing batch update request {} on {} for region {} key {} value {} callbackArg {}",
@@ -402,6 +444,10 @@ public class GatewayReceiverCommand extends BaseCommand {
                 region = (LocalRegion) crHelper.getCacheForGatewayCommand().getRegion(regionName);
                 if (region == null) {
                   handleRegionNull(serverConnection, regionName, batchId);
+                } else if (alreadyApplied) {
+                  stats.incDuplicateEventsSkipped();
+                  eventsSkipped++;
+                  retry = false;
                 } else {
                   clientEvent = new EventIDHolder(eventId);
                   if (versionTimeStamp > 0) {
@@ -422,25 +468,16 @@ public class GatewayReceiverCommand extends BaseCommand {
                     value = putContext.getSerializedValue();
                     isObject = putContext.isObject();
                   }
-                  boolean result = false;
                   if (isPdxEvent) {
-                    result = addPdxType(crHelper, key, value);
-                  } else {
-                    result = region.basicBridgePut(key, value, null, isObject, callbackArg,
-                        serverConnection.getProxyID(), false, clientEvent);
-                  }
-                  if (result || clientEvent.isConcurrencyConflict()) {
+                    addPdxType(crHelper, key, value);
                     serverConnection.setModificationInfo(true, regionName, key);
                     stats.incUpdateRequest();
-                    retry = false;
                   } else {
-                    final String message =
-                        "%s: Failed to update entry for region %s, key %s, value %s, and callbackArg %s";
-                    String s = String.format(message, serverConnection.getName(), regionName,
-                        key, valuePart, callbackArg);
-                    logger.info(s);
-                    throw new Exception(s);
+                    applyUpdate(batchApplier, indexWithoutPDXEvent, serverConnection, stats,
+                        region, regionName, key, value, isObject, callbackArg, clientEvent,
+                        valuePart);
                   }
+                  retry = false;
                 }
               } catch (Exception e) {
                 // Preserve the connection under all circumstances
@@ -476,6 +513,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                 }
 
                 versionTimeStamp = clientMessage.getPart(index++).getLong();
+                stats.recordEventReceiveLag(versionTimeStamp);
                 if (logger.isDebugEnabled()) {
                   logger.debug("{}: Processing batch destroy request {} on {} for region {} key {}",
                       serverConnection.getName(), batchId, serverConnection.getSocketString(),
@@ -500,6 +538,10 @@ public class GatewayReceiverCommand extends BaseCommand {
                 region = (LocalRegion) crHelper.getCacheForGatewayCommand().getRegion(regionName);
                 if (region == null) {
                   handleRegionNull(serverConnection, regionName, batchId);
+                } else if (alreadyApplied) {
+                  stats.incDuplicateEventsSkipped();
+                  eventsSkipped++;
+                  retry = false;
                 } else {
                   clientEvent = new EventIDHolder(eventId);
                   if (versionTimeStamp > 0) {
@@ -517,15 +559,8 @@ public class GatewayReceiverCommand extends BaseCommand {
                         authzRequest.destroyAuthorize(regionName, key, callbackArg);
                     callbackArg = destroyContext.getCallbackArg();
                   }
-                  try {
-                    region.basicBridgeDestroy(key, callbackArg, serverConnection.getProxyID(),
-                        false, clientEvent);
-                    serverConnection.setModificationInfo(true, regionName, key);
-                  } catch (EntryNotFoundException e) {
-                    logger.info("{}: during batch destroy no entry was found for key {}",
-                        serverConnection.getName(), key);
-                  }
-                  stats.incDestroyRequest();
+                  applyDestroy(batchApplier, indexWithoutPDXEvent, serverConnection, stats,
+                      region, regionName, key, callbackArg, clientEvent);
                   retry = false;
                 }
               } catch (Exception e) {
@@ -564,6 +599,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                 }
 
                 versionTimeStamp = clientMessage.getPart(index++).getLong();
+                stats.recordEventReceiveLag(versionTimeStamp);
                 if (logger.isDebugEnabled()) {
                   logger.debug(
                       "{}: Processing batch update-version request {} on {} for region {} key {} value {} callbackArg {}",
@@ -585,6 +621,10 @@ public class GatewayReceiverCommand extends BaseCommand {
 
                   if (region == null) {
                     handleRegionNull(serverConnection, regionName, batchId);
+                  } else if (alreadyApplied) {
+                    stats.incDuplicateEventsSkipped();
+                    eventsSkipped++;
+                    retry = false;
                   } else {
 
                     clientEvent = new EventIDHolder(eventId);
@@ -598,14 +638,8 @@ public class GatewayReceiverCommand extends BaseCommand {
                     }
 
                     // Update the version tag
-                    try {
-                      region.basicBridgeUpdateVersionStamp(key, callbackArg,
-                          serverConnection.getProxyID(), false, clientEvent);
-                    } catch (EntryNotFoundException e) {
-                      logger.info(
-                          "Entry for key {} was not found in Region {} during ProcessBatch for Update Entry Version",
-                          serverConnection.getName(), key);
-                    }
+                    applyUpdateVersion(batchApplier, indexWithoutPDXEvent, serverConnection,
+                        region, regionName, key, callbackArg, clientEvent);
                     retry = false;
                   }
                 }
@@ -648,14 +682,7 @@ public class GatewayReceiverCommand extends BaseCommand {
 
         // Increment the batch id unless the received batch id is -1 (a
         // failover batch)
-        DistributedSystem ds = crHelper.getCacheForGatewayCommand().getDistributedSystem();
-        String exceptionMessage = String.format(
-            "Exception occurred while processing a batch on the receiver running on DistributedSystem with Id: %s, DistributedMember on which the receiver is running: %s",
-            ((InternalDistributedSystem) ds).getDistributionManager().getDistributedSystemId(),
-            ds.getDistributedMember());
-        BatchException70 be =
-            new BatchException70(exceptionMessage, e, indexWithoutPDXEvent, batchId);
-        exceptions.add(be);
+        exceptions.add(createBatchException(crHelper, e, indexWithoutPDXEvent, batchId));
       } finally {
         // Increment the partNumber
         if (actionType == 0 /* create */ || actionType == 1 /* update */) {
@@ -680,11 +707,50 @@ public class GatewayReceiverCommand extends BaseCommand {
       }
     }
 
+    if (batchApplier != null) {
+      // apply the events that were deferred while reading the batch, including the ones read
+      // before a fatal exception since those would have been applied by the sequential path
+      for (KeyOrderedBatchApplier.Failure failure : batchApplier.applyAll()) {
+        Exception e = failure.getException();
+        if (e instanceof CancelException) {
+          if (logger.isDebugEnabled()) {
+            logger.debug(
+                "{} ignoring message of type {} from client {} because shutdown occurred during message processing.",
+                serverConnection.getName(),
+                MessageType.getString(clientMessage.getMessageType()),
+                serverConnection.getProxyID());
+          }
+          serverConnection.setFlagProcessMessagesAsFalse();
+          serverConnection.setClientDisconnectedException(e);
+          return;
+        }
+        checkForInterrupt(serverConnection, e);
+        logger.warn(String.format(
+            "%s: Caught exception processing batch request %s containing %s events",
+            serverConnection.getName(), batchId, numberOfEvents), e);
+        exceptions.add(createBatchException(crHelper, e, failure.getIndex(), batchId));
+      }
+      exceptions.sort(Comparator.comparingInt(BatchException70::getIndex));
+    }
+
     {
       long oldStart = start;
       start = DistributionStats.getStatTime();
       stats.incProcessBatchTime(start - oldStart);
     }
+    if (DistributionStats.enableClockStats) {
+      stats.recordBatchApplyLatency(start - applyStart);
+    }
+    if (appliedBatch != null) {
+      if (fatalException == null && exceptions.isEmpty()) {
+        appliedEventWatermarks.batchApplied(appliedBatch);
+      } else {
+        appliedEventWatermarks.batchFailed(appliedBatch);
+      }
+      if (eventsSkipped > 0 && eventsSkipped == indexWithoutPDXEvent + 1) {
+        stats.incReplayedBatchesSkipped();
+      }
+    }
     if (fatalException != null) {
       serverConnection.incrementLatestBatchIdReplied(batchId);
       writeFatalException(clientMessage, fatalException, serverConnection, batchId);
@@ -710,6 +776,136 @@ public class GatewayReceiverCommand extends BaseCommand {
     }
   }
 
+  private BatchException70 createBatchException(CachedRegionHelper crHelper, Exception e,
+      int index, int batchId) {
+    DistributedSystem ds = crHelper.getCacheForGatewayCommand().getDistributedSystem();
+    String exceptionMessage = String.format(
+        "Exception occurred while processing a batch on the receiver running on DistributedSystem with Id: %s, DistributedMember on which the receiver is running: %s",
+        ((InternalDistributedSystem) ds).getDistributionManager().getDistributedSystemId(),
+        ds.getDistributedMember());
+    return new BatchException70(exceptionMessage, e, index, batchId);
+  }
+
+  /**
+   * Applies an event right away when {@code batchApplier} is null. Otherwise the event is handed
+   * to the applier and any exception it throws is reported once the whole batch has been applied.
+   * The modification info of the connection is only set by this thread, and before the event is
+   * applied when it is handed to the applier since it only records a potential modification.
+   */
+  private void applyEvent(KeyOrderedBatchApplier batchApplier, int index,
+      ServerConnection serverConnection, String regionName, Object key, EventIDHolder clientEvent,
+      boolean modifies, KeyOrderedBatchApplier.EventApplication application) throws Exception {
+    if (batchApplier == null) {
+      application.apply();
+    } else {
+      batchApplier.add(clientEvent.getEventId(), regionName, key, index, application);
+    }
+    if (modifies) {
+      serverConnection.setModificationInfo(true, regionName, key);
+    }
+  }
+
+  /**
+   * Wraps a task of the batch applier so it runs with the thread state a ServerConnection thread
+   * has. Gateway connections have no subject bound to their thread and the events of a batch are
+   * authorized before they are handed to the applier, so only the entry logger source and the
+   * sockets the thread may come to own need handling.
+   */
+  private static Runnable inConnectionContext(ServerConnection serverConnection, Runnable task) {
+    boolean logEntries = EntryLogger.isEnabled();
+    String membershipId = logEntries ? serverConnection.getMembershipID() : null;
+    return () -> {
+      if (logEntries) {
+        EntryLogger.setSource(membershipId, "c2s");
+      }
+      try {
+        task.run();
+      } finally {
+        if (logEntries) {
+          EntryLogger.clearSource();
+        }
+        ConnectionTable.releaseThreadsSockets();
+      }
+    };
+  }
+
+  private void applyCreate(KeyOrderedBatchApplier batchApplier, int index,
+      ServerConnection serverConnection, GatewayReceiverStats stats, LocalRegion region,
+      String regionName, Object key, byte[] value, boolean isObject, Object callbackArg,
+      EventIDHolder clientEvent, Part valuePart) throws Exception {
+    applyEvent(batchApplier, index, serverConnection, regionName, key, clientEvent, true, () -> {
+      boolean result = region.basicBridgeCreate(key, value, isObject, callbackArg,
+          serverConnection.getProxyID(), false, clientEvent, false);
+      // If the create fails (presumably because it already exists),
+      // attempt to update the entry
+      if (!result) {
+        result = region.basicBridgePut(key, value, null, isObject, callbackArg,
+            serverConnection.getProxyID(), false, clientEvent);
+      }
+
+      if (result || clientEvent.isConcurrencyConflict()) {
+        stats.incCreateRequest();
+      } else {
+        // This exception will be logged by the caller
+        throw new Exception(
+            String.format(
+                "%s: Failed to create or update entry for region %s key %s value %s callbackArg %s",
+                serverConnection.getName(), regionName, key, valuePart, callbackArg));
+      }
+    });
+  }
+
+  private void applyUpdate(KeyOrderedBatchApplier batchApplier, int index,
+      ServerConnection serverConnection, GatewayReceiverStats stats, LocalRegion region,
+      String regionName, Object key, byte[] value, boolean isObject, Object callbackArg,
+      EventIDHolder clientEvent, Part valuePart) throws Exception {
+    applyEvent(batchApplier, index, serverConnection, regionName, key, clientEvent, true, () -> {
+      boolean result = region.basicBridgePut(key, value, null, isObject, callbackArg,
+          serverConnection.getProxyID(), false, clientEvent);
+      if (result || clientEvent.isConcurrencyConflict()) {
+        stats.incUpdateRequest();
+      } else {
+        final String message =
+            "%s: Failed to update entry for region %s, key %s, value %s, and callbackArg %s";
+        String s = String.format(message, serverConnection.getName(), regionName,
+            key, valuePart, callbackArg);
+        logger.info(s);
+        throw new Exception(s);
+      }
+    });
+  }
+
+  private void applyDestroy(KeyOrderedBatchApplier batchApplier, int index,
+      ServerConnection serverConnection, GatewayReceiverStats stats, LocalRegion region,
+      String regionName, Object key, Object callbackArg, EventIDHolder clientEvent)
+      throws Exception {
+    applyEvent(batchApplier, index, serverConnection, regionName, key, clientEvent, true, () -> {
+      try {
+        region.basicBridgeDestroy(key, callbackArg, serverConnection.getProxyID(),
+            false, clientEvent);
+      } catch (EntryNotFoundException e) {
+        logger.info("{}: during batch destroy no entry was found for key {}",
+            serverConnection.getName(), key);
+      }
+      stats.incDestroyRequest();
+    });
+  }
+
+  private void applyUpdateVersion(KeyOrderedBatchApplier batchApplier, int index,
+      ServerConnection serverConnection, LocalRegion region, String regionName, Object key,
+      Object callbackArg, EventIDHolder clientEvent) throws Exception {
+    applyEvent(batchApplier, index, serverConnection, regionName, key, clientEvent, false, () -> {
+      try {
+        region.basicBridgeUpdateVersionStamp(key, callbackArg,
+            serverConnection.getProxyID(), false, clientEvent);
+      } catch (EntryNotFoundException e) {
+        logger.info(
+            "Entry for key {} was not found in Region {} during ProcessBatch for Update Entry Version",
+            serverConnection.getName(), key);
+      }
+    });
+  }
+
   private boolean addPdxType(CachedRegionHelper crHelper, Object key, Object value)
       throws Exception {
     if (key instanceof EnumId) {
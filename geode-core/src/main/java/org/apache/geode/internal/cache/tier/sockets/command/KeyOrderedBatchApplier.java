@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets.command;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
+
+import org.apache.geode.CancelException;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.ha.ThreadIdentifier;
+
+/**
+ * Applies the events of a gateway batch on several threads. Events that share an originating
+ * thread, which is the membership id and thread id of their EventID, or that share an entry are
+ * applied one after the other in the order they were added, and only unrelated events are applied
+ * concurrently. Keeping the order of an originating thread matters because the event tracker of a
+ * region considers any event at or below the last sequence id it recorded for a thread as already
+ * seen, so applying a later event of a thread first would make the earlier one be skipped.
+ * <p>
+ * An instance is used by a single thread: events are {@linkplain #add added} while the batch is
+ * read and then {@linkplain #applyAll applied} before the batch is acknowledged.
+ */
+class KeyOrderedBatchApplier {
+
+  /**
+   * The work needed to apply one event of a batch.
+   */
+  @FunctionalInterface
+  interface EventApplication {
+    void apply() throws Exception;
+  }
+
+  /**
+   * An event that could not be applied, along with its index in the batch.
+   */
+  static class Failure {
+    private final int index;
+    private final Exception exception;
+
+    Failure(int index, Exception exception) {
+      this.index = index;
+      this.exception = exception;
+    }
+
+    int getIndex() {
+      return index;
+    }
+
+    Exception getException() {
+      return exception;
+    }
+  }
+
+  private static class PendingEvent {
+    private final int index;
+    private final int group;
+    private final EventApplication application;
+
+    PendingEvent(int index, int group, EventApplication application) {
+      this.index = index;
+      this.group = group;
+      this.application = application;
+    }
+  }
+
+  private final Executor executor;
+  private final int stripeCount;
+  private final UnaryOperator<Runnable> taskContext;
+
+  private final List<PendingEvent> events = new ArrayList<>();
+
+  /**
+   * The group each group was merged into, indexed by group. Every event starts a group of its own,
+   * which is merged with the groups of the earlier events of its thread and of its entry.
+   */
+  private final List<Integer> mergedInto = new ArrayList<>();
+
+  private final Map<ThreadIdentifier, Integer> groupByThread = new HashMap<>();
+
+  private final Map<Map.Entry<String, Object>, Integer> groupByEntry = new HashMap<>();
+
+  /**
+   * @param taskContext wraps the tasks run by the executor so they run in the context of the
+   *        thread that reads the batch
+   */
+  KeyOrderedBatchApplier(Executor executor, int stripeCount, UnaryOperator<Runnable> taskContext) {
+    this.executor = executor;
+    this.stripeCount = stripeCount;
+    this.taskContext = taskContext;
+  }
+
+  /**
+   * Adds the event at the given index of the batch. It is not applied until {@link #applyAll}.
+   */
+  void add(EventID eventId, String regionName, Object key, int index,
+      EventApplication application) {
+    int group = mergedInto.size();
+    mergedInto.add(group);
+    Integer threadGroup = groupByThread
+        .put(new ThreadIdentifier(eventId.getMembershipID(), eventId.getThreadID()), group);
+    if (threadGroup != null) {
+      merge(threadGroup, group);
+    }
+    Integer entryGroup =
+        groupByEntry.put(new AbstractMap.SimpleImmutableEntry<>(regionName, key), group);
+    if (entryGroup != null) {
+      merge(entryGroup, group);
+    }
+    events.add(new PendingEvent(index, group, application));
+  }
+
+  private int find(int group) {
+    int root = group;
+    while (mergedInto.get(root) != root) {
+      root = mergedInto.get(root);
+    }
+    while (mergedInto.get(group) != root) {
+      int next = mergedInto.get(group);
+      mergedInto.set(group, root);
+      group = next;
+    }
+    return root;
+  }
+
+  private void merge(int group, int otherGroup) {
+    int root = find(group);
+    int otherRoot = find(otherGroup);
+    if (root != otherRoot) {
+      mergedInto.set(Math.max(root, otherRoot), Math.min(root, otherRoot));
+    }
+  }
+
+  /**
+   * Applies every event added since the last call and waits for them to complete. The calling
+   * thread applies one of the stripes itself.
+   *
+   * @return the events that failed, ordered by their index in the batch
+   */
+  List<Failure> applyAll() {
+    Map<Integer, List<PendingEvent>> groups = new LinkedHashMap<>();
+    for (PendingEvent event : events) {
+      groups.computeIfAbsent(find(event.group), k -> new ArrayList<>()).add(event);
+    }
+    events.clear();
+    mergedInto.clear();
+    groupByThread.clear();
+    groupByEntry.clear();
+
+    // each group goes to the stripe with the fewest events so far
+    List<List<PendingEvent>> work = new ArrayList<>(stripeCount);
+    for (List<PendingEvent> group : groups.values()) {
+      if (work.size() < stripeCount) {
+        work.add(new ArrayList<>(group));
+        continue;
+      }
+      List<PendingEvent> smallest = work.get(0);
+      for (List<PendingEvent> stripe : work) {
+        if (stripe.size() < smallest.size()) {
+          smallest = stripe;
+        }
+      }
+      smallest.addAll(group);
+    }
+    List<Failure> failures = new ArrayList<>();
+    if (work.isEmpty()) {
+      return failures;
+    }
+
+    CountDownLatch done = new CountDownLatch(work.size() - 1);
+    for (int i = 1; i < work.size(); i++) {
+      List<PendingEvent> stripe = work.get(i);
+      Runnable task = taskContext.apply(() -> applyStripe(stripe, failures));
+      try {
+        executor.execute(() -> {
+          try {
+            task.run();
+          } finally {
+            done.countDown();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        try {
+          applyStripe(stripe, failures);
+        } finally {
+          done.countDown();
+        }
+      }
+    }
+    applyStripe(work.get(0), failures);
+
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          done.await();
+          break;
+        } catch (InterruptedException e) {
+          // the batch can only be acknowledged once every event has been applied
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    synchronized (failures) {
+      failures.sort(Comparator.comparingInt(Failure::getIndex));
+      return failures;
+    }
+  }
+
+  private static void applyStripe(List<PendingEvent> stripe, List<Failure> failures) {
+    for (PendingEvent event : stripe) {
+      try {
+        event.application.apply();
+      } catch (Exception e) {
+        synchronized (failures) {
+          failures.add(new Failure(event.index, e));
+        }
+        if (e instanceof CancelException) {
+          // the cache is closing so there is no point in applying the rest
+          return;
+        }
+      }
+    }
+  }
+}
@@ -33,6 +33,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.geode.CancelException;
 import org.apache.geode.GemFireException;
 import org.apache.geode.SystemFailure;
+import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.cache.CacheException;
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.Operation;
@@ -126,6 +127,33 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
       Collections.synchronizedMap(new HashMap<Integer, List<GatewaySenderEventImpl>[]>());
   private Map<Integer, List<GatewaySenderEventImpl>> batchIdToPDXEventsMap =
       Collections.synchronizedMap(new HashMap<Integer, List<GatewaySenderEventImpl>>());
+  /*
+   * The statistics clock time at which each batch in batchIdToEventsMap was dispatched, used to
+   * measure how long the batch waits for its acknowledgement. Empty while the clock is disabled.
+   */
+  private final Map<Integer, Long> batchIdToDispatchTimeMap =
+      Collections.synchronizedMap(new HashMap<>());
+
+  /**
+   * The maximum number of batches dispatched to the remote site that may be waiting for their
+   * acknowledgement. 0, the default, does not limit the number of batches.
+   */
+  private static final int MAX_IN_FLIGHT_BATCHES =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "GatewaySender.MAX_IN_FLIGHT_BATCHES", 0);
+
+  /**
+   * The maximum total size in bytes of the events in batches waiting for their acknowledgement. 0,
+   * the default, does not limit the size.
+   */
+  private static final long MAX_IN_FLIGHT_BYTES =
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "GatewaySender.MAX_IN_FLIGHT_BYTES", 0);
+
+  /*
+   * The batches in batchIdToEventsMap that count against MAX_IN_FLIGHT_BATCHES and
+   * MAX_IN_FLIGHT_BYTES.
+   */
+  private final InFlightBatchWindow inFlightBatchWindow =
+      new InFlightBatchWindow(MAX_IN_FLIGHT_BATCHES, MAX_IN_FLIGHT_BYTES);
 
   private List<GatewaySenderEventImpl> pdxSenderEventsList =
       new ArrayList<GatewaySenderEventImpl>();
@@ -644,6 +672,11 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
                   (List<GatewaySenderEventImpl>[]) new List[2];
               eventsArr[0] = events;
               eventsArr[1] = filteredList;
+              // only batches acknowledged by the remote site enter the window; the callback
+              // dispatcher never acks, so its batches would hold the window forever
+              if (inFlightBatchWindow.isEnabled()) {
+                waitForRoomInFlight(filteredList);
+              }
               this.batchIdToEventsMap.put(getBatchId(), eventsArr);
               // find out PDX event and append it in front of the list
               pdxEventsToBeDispatched = addPDXEvent();
@@ -667,6 +700,11 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
                   conflatedEventsToBeDispatched);
             }
 
+            recordEventQueueLatency(statistics, filteredList);
+            if (!(this.dispatcher instanceof GatewaySenderEventCallbackDispatcher)
+                && statistics.isClockEnabled()) {
+              this.batchIdToDispatchTimeMap.put(getBatchId(), statistics.getTime());
+            }
             boolean success = this.dispatcher.dispatchBatch(conflatedEventsToBeDispatched,
                 sender.isRemoveFromQueueOnException(), false);
             if (success) {
@@ -950,8 +988,51 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
     }
   }
 
+  private void waitForRoomInFlight(List<GatewaySenderEventImpl> filteredList) {
+    long batchBytes = 0;
+    for (GatewaySenderEventImpl event : filteredList) {
+      batchBytes += event.getSizeInBytes();
+    }
+    try {
+      // stop waiting if the acks will never come, since the batches will then be sent again
+      boolean waited = inFlightBatchWindow.acquire(getBatchId(), batchBytes,
+          () -> isStopped() || resetLastPeekedEvents);
+      if (waited && logger.isDebugEnabled()) {
+        logger.debug("{}: Waited for acknowledgements before dispatching batch #{}", this,
+            getBatchId());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @VisibleForTesting
+  static void recordEventQueueLatency(GatewaySenderStats statistics,
+      List<GatewaySenderEventImpl> events) {
+    long currentTime = System.currentTimeMillis();
+    for (GatewaySenderEventImpl event : events) {
+      // a batch that is sent again has already been counted
+      if (event.markQueueLatencyRecorded()) {
+        statistics.recordEventQueueLatency(currentTime - event.getCreationTime());
+      }
+    }
+  }
+
+  private void recordEventReplicationLag(List<?> events) {
+    GatewaySenderStats statistics = sender.getStatistics();
+    long currentTime = System.currentTimeMillis();
+    for (Object event : events) {
+      if (event instanceof GatewaySenderEventImpl) {
+        statistics.recordEventReplicationLag(
+            currentTime - ((GatewaySenderEventImpl) event).getCreationTime());
+      }
+    }
+  }
+
   private void resetLastPeekedEvents() {
     this.batchIdToEventsMap.clear();
+    this.batchIdToDispatchTimeMap.clear();
+    this.inFlightBatchWindow.clear();
     // make sure that when there is problem while receiving ack, pdx gateway
     // sender events isDispatched is set to false so that same events will be
     // dispatched in next batch
@@ -992,6 +1073,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
       }
     }
 
+    recordEventReplicationLag(filteredList);
     filteredList.clear();
     eventQueueRemove(events.size());
 
@@ -1043,8 +1125,15 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
     }
 
     List<GatewaySenderEventImpl>[] eventsArr = this.batchIdToEventsMap.remove(batchId);
+    this.inFlightBatchWindow.release(batchId);
+    Long dispatchTime = this.batchIdToDispatchTimeMap.remove(batchId);
+    if (dispatchTime != null) {
+      GatewaySenderStats statistics = sender.getStatistics();
+      statistics.recordBatchAckLatency(statistics.getTime() - dispatchTime);
+    }
     if (eventsArr != null) {
       List<GatewaySenderEventImpl> filteredEvents = eventsArr[1];
+      recordEventReplicationLag(filteredEvents);
       for (GatewayEventFilter filter : sender.getGatewayEventFilters()) {
         for (GatewaySenderEventImpl event : filteredEvents) {
           try {
@@ -1255,6 +1344,8 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
           // try to stop it again
           dispatcher.stop();
           this.batchIdToEventsMap.clear();
+          this.batchIdToDispatchTimeMap.clear();
+          this.inFlightBatchWindow.clear();
         }
       } catch (InterruptedException ex) {
         Thread.currentThread().interrupt();
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.ha.ThreadIdentifier;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * The events a gateway receiver has applied, tracked as one sequence id watermark per originating
+ * thread, which is the membership id and thread id of an event's EventID. The events of a thread
+ * are dispatched in sequence id order by a single sender dispatcher thread, since parallel senders
+ * and serial senders with several dispatcher threads give each bucket or dispatcher its own thread
+ * id, so once a whole batch has been applied every event of it is at or below the watermark of its
+ * thread. A replayed event at or below its watermark can then be skipped with a single lookup,
+ * instead of going through the duplicate checks of the region, which may ask the other members for
+ * its version tag.
+ * <p>
+ * A batch that fails leaves a floor below which its threads' events are no longer considered
+ * applied, even if a later batch raises their watermarks, until a batch that starts at or below
+ * the floor is applied. This keeps the resend of a failed batch from being skipped. Watermarks with
+ * a floor are therefore kept when the number of tracked threads is trimmed.
+ * <p>
+ * Each gateway receiver's acceptor owns its watermarks, so they go away with the receiver and its
+ * cache.
+ */
+public class AppliedEventWatermarks {
+
+  /**
+   * When true, gateway receivers do not track the events they applied, and replayed events go
+   * through the region's duplicate checks.
+   */
+  public static final boolean DISABLE_REPLAY_DEDUPLICATION = Boolean
+      .getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "GatewayReceiver.DISABLE_REPLAY_DEDUPLICATION");
+
+  /**
+   * The default number of originating threads whose watermarks are tracked.
+   */
+  public static final int MAXIMUM_REPLAY_DEDUPLICATION_THREADS = Integer.getInteger(
+      GeodeGlossary.GEMFIRE_PREFIX + "GatewayReceiver.MAXIMUM_REPLAY_DEDUPLICATION_THREADS",
+      100000);
+
+  /**
+   * The number of threads tracked before the watermarks without a floor are dropped. Dropping them
+   * only means replayed events go through the region's duplicate checks again.
+   */
+  private final int maximumThreads;
+
+  private final ConcurrentMap<ThreadIdentifier, Watermark> watermarks = new ConcurrentHashMap<>();
+
+  public AppliedEventWatermarks(int maximumThreads) {
+    this.maximumThreads = maximumThreads;
+  }
+
+  /**
+   * Returns whether an event was part of a batch that was fully applied.
+   */
+  public boolean isApplied(EventID eventId) {
+    Watermark watermark = watermarks.get(threadOf(eventId));
+    return watermark != null && watermark.isApplied(eventId.getSequenceID());
+  }
+
+  /**
+   * Records that every event of a batch was applied.
+   */
+  public void batchApplied(Batch batch) {
+    makeRoomFor(batch);
+    for (Map.Entry<ThreadIdentifier, long[]> range : batch.ranges.entrySet()) {
+      long[] sequenceIds = range.getValue();
+      // updated inside compute so that trimming cannot drop a watermark while it gets a floor
+      watermarks.compute(range.getKey(), (thread, watermark) -> {
+        Watermark result = watermark == null ? new Watermark() : watermark;
+        result.applied(sequenceIds[0], sequenceIds[1]);
+        return result;
+      });
+    }
+  }
+
+  /**
+   * Records that some events of a batch may not have been applied.
+   */
+  public void batchFailed(Batch batch) {
+    makeRoomFor(batch);
+    for (Map.Entry<ThreadIdentifier, long[]> range : batch.ranges.entrySet()) {
+      long[] sequenceIds = range.getValue();
+      watermarks.compute(range.getKey(), (thread, watermark) -> {
+        Watermark result = watermark == null ? new Watermark() : watermark;
+        result.failed(sequenceIds[0]);
+        return result;
+      });
+    }
+  }
+
+  /**
+   * Forgets every watermark, after which replayed events go through the region's duplicate checks.
+   */
+  public void clear() {
+    watermarks.clear();
+  }
+
+  int size() {
+    return watermarks.size();
+  }
+
+  /**
+   * Drops the watermarks without a floor once the threads of a batch would exceed the maximum. The
+   * watermarks of failed batches are kept, since without their floor the resend of the failed batch
+   * would be reported as applied once a later batch of the same thread is.
+   */
+  private void makeRoomFor(Batch batch) {
+    if (watermarks.size() + batch.ranges.size() <= maximumThreads) {
+      return;
+    }
+    for (ThreadIdentifier thread : watermarks.keySet()) {
+      watermarks.computeIfPresent(thread,
+          (key, watermark) -> watermark.hasFloor() ? watermark : null);
+    }
+  }
+
+  private static ThreadIdentifier threadOf(EventID eventId) {
+    return new ThreadIdentifier(eventId.getMembershipID(), eventId.getThreadID());
+  }
+
+  /**
+   * The lowest and highest sequence ids of each thread in a batch, collected while it is read.
+   */
+  public static class Batch {
+
+    private final Map<ThreadIdentifier, long[]> ranges = new HashMap<>();
+
+    public void add(EventID eventId) {
+      long sequenceId = eventId.getSequenceID();
+      long[] range = ranges.get(threadOf(eventId));
+      if (range == null) {
+        ranges.put(threadOf(eventId), new long[] {sequenceId, sequenceId});
+      } else {
+        range[0] = Math.min(range[0], sequenceId);
+        range[1] = Math.max(range[1], sequenceId);
+      }
+    }
+  }
+
+  private static class Watermark {
+
+    private long highestApplied = -1;
+
+    private long failedFrom = Long.MAX_VALUE;
+
+    synchronized boolean isApplied(long sequenceId) {
+      return sequenceId <= highestApplied && sequenceId < failedFrom;
+    }
+
+    synchronized void applied(long lowest, long highest) {
+      highestApplied = Math.max(highestApplied, highest);
+      if (lowest <= failedFrom) {
+        failedFrom = Long.MAX_VALUE;
+      }
+    }
+
+    synchronized void failed(long lowest) {
+      failedFrom = Math.min(failedFrom, lowest);
+    }
+
+    synchronized boolean hasFloor() {
+      return failedFrom != Long.MAX_VALUE;
+    }
+  }
+}
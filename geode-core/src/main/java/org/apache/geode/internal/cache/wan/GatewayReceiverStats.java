@@ -14,6 +14,10 @@
  */
 package org.apache.geode.internal.cache.wan;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 
@@ -21,6 +25,7 @@ import org.apache.geode.StatisticDescriptor;
 import org.apache.geode.StatisticsFactory;
 import org.apache.geode.distributed.internal.DistributionStats;
 import org.apache.geode.internal.cache.tier.sockets.CacheServerStats;
+import org.apache.geode.internal.statistics.LatencyHistogram;
 import org.apache.geode.internal.statistics.meters.LegacyStatCounter;
 
 public class GatewayReceiverStats extends CacheServerStats {
@@ -81,6 +86,27 @@ public class GatewayReceiverStats extends CacheServerStats {
    * Name of the events retried
    */
   private static final String EVENTS_RETRIED = "eventsRetried";
+
+  /**
+   * Name of the replayed events skipped statistic
+   */
+  private static final String DUPLICATE_EVENTS_SKIPPED = "duplicateEventsSkipped";
+
+  /**
+   * Name of the replayed batches skipped statistic
+   */
+  private static final String REPLAYED_BATCHES_SKIPPED = "replayedBatchesSkipped";
+
+  /**
+   * Name of the histogram of the time spent applying batches
+   */
+  private static final String BATCH_APPLY_LATENCY = "batchApplyLatency";
+
+  /**
+   * Name of the histogram of the time between an event being modified on the remote site and it
+   * being received
+   */
+  private static final String EVENT_RECEIVE_LAG = "eventReceiveLag";
   private final MeterRegistry meterRegistry;
 
   // /** Id of the events queued statistic */
@@ -142,6 +168,20 @@ public class GatewayReceiverStats extends CacheServerStats {
    */
   private int eventsRetriedId;
 
+  /**
+   * Id of the replayed events skipped statistic
+   */
+  private int duplicateEventsSkippedId;
+
+  /**
+   * Id of the replayed batches skipped statistic
+   */
+  private int replayedBatchesSkippedId;
+
+  private final LatencyHistogram batchApplyLatency;
+
+  private final LatencyHistogram eventReceiveLag;
+
   // ///////////////////// Constructors ///////////////////////
 
   public static GatewayReceiverStats createGatewayReceiverStats(StatisticsFactory f,
@@ -168,8 +208,20 @@ public class GatewayReceiverStats extends CacheServerStats {
         f.createIntCounter(EXCEPTIONS_OCCURRED,
             "number of exceptions occurred while porcessing the batches", "operations"),
         f.createIntCounter(EVENTS_RETRIED,
-            "total number events retried by this GatewayReceiver due to exceptions", "operations")};
-    return new GatewayReceiverStats(f, ownerName, typeName, descriptors, meterRegistry);
+            "total number events retried by this GatewayReceiver due to exceptions", "operations"),
+        f.createLongCounter(DUPLICATE_EVENTS_SKIPPED,
+            "number of already applied events skipped by this GatewayReceiver when replayed",
+            "operations"),
+        f.createLongCounter(REPLAYED_BATCHES_SKIPPED,
+            "number of replayed batches whose events were all skipped by this GatewayReceiver",
+            "operations")};
+    List<StatisticDescriptor> allDescriptors = new ArrayList<>(Arrays.asList(descriptors));
+    allDescriptors.addAll(Arrays.asList(LatencyHistogram.createDescriptors(f, BATCH_APPLY_LATENCY,
+        "number of batches applied by this GatewayReceiver")));
+    allDescriptors.addAll(Arrays.asList(LatencyHistogram.createDescriptors(f, EVENT_RECEIVE_LAG,
+        "number of events received after being modified on the remote site")));
+    return new GatewayReceiverStats(f, ownerName, typeName,
+        allDescriptors.toArray(new StatisticDescriptor[allDescriptors.size()]), meterRegistry);
 
   }
 
@@ -188,6 +240,10 @@ public class GatewayReceiverStats extends CacheServerStats {
     unknowsOperationsReceivedId = statType.nameToId(UNKNOWN_OPERATIONS_RECEIVED);
     exceptionsOccurredId = statType.nameToId(EXCEPTIONS_OCCURRED);
     eventsRetriedId = statType.nameToId(EVENTS_RETRIED);
+    duplicateEventsSkippedId = statType.nameToId(DUPLICATE_EVENTS_SKIPPED);
+    replayedBatchesSkippedId = statType.nameToId(REPLAYED_BATCHES_SKIPPED);
+    batchApplyLatency = new LatencyHistogram(statType, BATCH_APPLY_LATENCY);
+    eventReceiveLag = new LatencyHistogram(statType, EVENT_RECEIVE_LAG);
 
     this.meterRegistry = meterRegistry;
     eventsReceivedCounter = LegacyStatCounter.builder(EVENTS_RECEIVED_COUNTER_NAME)
@@ -320,6 +376,55 @@ public class GatewayReceiverStats extends CacheServerStats {
     return this.stats.getInt(eventsRetriedId);
   }
 
+  /**
+   * Increments the number of replayed events skipped because they were already applied by 1.
+   */
+  public void incDuplicateEventsSkipped() {
+    this.stats.incLong(duplicateEventsSkippedId, 1);
+  }
+
+  public long getDuplicateEventsSkipped() {
+    return this.stats.getLong(duplicateEventsSkippedId);
+  }
+
+  /**
+   * Increments the number of replayed batches whose events were all skipped by 1.
+   */
+  public void incReplayedBatchesSkipped() {
+    this.stats.incLong(replayedBatchesSkippedId, 1);
+  }
+
+  public long getReplayedBatchesSkipped() {
+    return this.stats.getLong(replayedBatchesSkippedId);
+  }
+
+  /**
+   * Records the time spent applying a batch, from reading it to sending its reply.
+   */
+  public void recordBatchApplyLatency(long nanos) {
+    batchApplyLatency.recordNanos(stats, nanos);
+  }
+
+  public long getBatchApplyLatencyPercentile(double percentile) {
+    return batchApplyLatency.getPercentileMillis(stats, percentile);
+  }
+
+  /**
+   * Records the time between an event being modified on the remote site and it being received.
+   * Events without a version timestamp are ignored. The lag includes any difference between the
+   * clocks of the two sites.
+   */
+  public void recordEventReceiveLag(long versionTimeStamp) {
+    if (versionTimeStamp > 0) {
+      eventReceiveLag.recordMillis(stats,
+          Math.max(0, System.currentTimeMillis() - versionTimeStamp));
+    }
+  }
+
+  public long getEventReceiveLagPercentile(double percentile) {
+    return eventReceiveLag.getPercentileMillis(stats, percentile);
+  }
+
   /**
    * Returns the current time (ns).
    *
@@ -272,6 +272,14 @@ public class GatewaySenderAttributes {
     this.listeners.add(listener);
   }
 
+  /**
+   * Replaces the listeners, leaving the list handed to senders already created from these
+   * attributes untouched.
+   */
+  public void setAsyncEventListeners(List<AsyncEventListener> listeners) {
+    this.listeners = listeners;
+  }
+
   public String getId() {
     return this.id;
   }
@@ -15,15 +15,31 @@
 
 package org.apache.geode.internal.cache.wan;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.CancelException;
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
 import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.CoalescingAsyncEventListener;
+import org.apache.geode.cache.asyncqueue.internal.AsyncEventQueueStats;
+import org.apache.geode.cache.asyncqueue.internal.CoalescedAsyncEvent;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * Class <code>SerialGatewayEventCallbackDispatcher</code> dispatches batches of
@@ -53,9 +69,31 @@ public class GatewaySenderEventCallbackDispatcher implements GatewaySenderEventD
    */
   private final Object eventLock = new Object();
 
+  /**
+   * The number of threads a parallel <code>AsyncEventQueue</code> dispatcher uses to pass each
+   * batch to its <code>AsyncEventListener</code>s. With more than one, the batch is split into
+   * groups of buckets and the listener is invoked concurrently for each group, so a slow group
+   * holds up fewer buckets. Events for the same key are always in the same group, in order, but the
+   * listener must be thread-safe.
+   */
+  private static final int LISTENER_PARALLELISM = Integer
+      .getInteger(GeodeGlossary.GEMFIRE_PREFIX + "AsyncEventQueue.LISTENER_PARALLELISM", 1);
+
+  /**
+   * Invokes the listener for all but one group of a batch, the dispatcher thread taking the last
+   * one. Null unless the batches of this dispatcher are split.
+   */
+  private final ExecutorService listenerExecutor;
+
   public GatewaySenderEventCallbackDispatcher(AbstractGatewaySenderEventProcessor eventProcessor) {
     this.eventProcessor = eventProcessor;
     initializeEventListeners();
+    if (LISTENER_PARALLELISM > 1 && eventProcessor.getSender().isParallel()) {
+      listenerExecutor = LoggingExecutors.newFixedThreadPool(LISTENER_PARALLELISM - 1,
+          "AsyncEventListenerInvoker", true);
+    } else {
+      listenerExecutor = null;
+    }
   }
 
   /**
@@ -147,7 +185,13 @@ public class GatewaySenderEventCallbackDispatcher implements GatewaySenderEventD
     boolean successAll = true;
     try {
       for (AsyncEventListener listener : this.eventListeners) {
-        boolean successOne = listener.processEvents(events);
+        List<AsyncEvent> listenerEvents = events;
+        if (listener instanceof CoalescingAsyncEventListener) {
+          listenerEvents = coalesce((CoalescingAsyncEventListener) listener, events);
+          this.eventProcessor.sender.getStatistics()
+              .incEventsConflatedFromBatches(events.size() - listenerEvents.size());
+        }
+        boolean successOne = invokeListener(listener, listenerEvents);
         if (!successOne) {
           successAll = false;
         }
@@ -164,6 +208,138 @@ public class GatewaySenderEventCallbackDispatcher implements GatewaySenderEventD
     return successAll;
   }
 
+  private boolean invokeListener(AsyncEventListener listener, List<AsyncEvent> events)
+      throws Exception {
+    if (listenerExecutor == null) {
+      return processEvents(listener, events);
+    }
+    List<List<AsyncEvent>> groups = groupByBucket(events, LISTENER_PARALLELISM);
+    if (groups.size() == 1) {
+      return processEvents(listener, events);
+    }
+
+    List<Future<Boolean>> results = new ArrayList<>(groups.size() - 1);
+    for (List<AsyncEvent> group : groups.subList(1, groups.size())) {
+      Callable<Boolean> task = () -> processEvents(listener, group);
+      try {
+        results.add(listenerExecutor.submit(task));
+      } catch (RejectedExecutionException e) {
+        // the dispatcher is stopping
+        results.add(CompletableFuture.completedFuture(task.call()));
+      }
+    }
+
+    boolean success = true;
+    Exception failure = null;
+    try {
+      success = processEvents(listener, groups.get(0));
+    } catch (Exception e) {
+      failure = e;
+    }
+    // wait for every group, even after a failure, so that a retry of the batch never overlaps a
+    // group that is still being processed
+    boolean interrupted = false;
+    try {
+      for (Future<Boolean> result : results) {
+        while (true) {
+          try {
+            success &= result.get();
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          } catch (ExecutionException e) {
+            if (failure == null) {
+              failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            break;
+          }
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return success;
+  }
+
+  private boolean processEvents(AsyncEventListener listener, List<AsyncEvent> events) {
+    GatewaySenderStats statistics = this.eventProcessor.sender.getStatistics();
+    if (!(statistics instanceof AsyncEventQueueStats)) {
+      return listener.processEvents(events);
+    }
+    AsyncEventQueueStats asyncEventQueueStats = (AsyncEventQueueStats) statistics;
+    long start = asyncEventQueueStats.startListenerInvocation();
+    try {
+      return listener.processEvents(events);
+    } finally {
+      asyncEventQueueStats.endListenerInvocation(start);
+    }
+  }
+
+  /**
+   * Splits the batch into at most {@code groupCount} groups by bucket, preserving the order of the
+   * events within each group. All the events for a key share a bucket and so end up in the same
+   * group, in their original order.
+   */
+  @VisibleForTesting
+  static List<List<AsyncEvent>> groupByBucket(List<AsyncEvent> events, int groupCount) {
+    List<List<AsyncEvent>> groups = new ArrayList<>(groupCount);
+    for (int i = 0; i < groupCount; i++) {
+      groups.add(new ArrayList<>());
+    }
+    for (AsyncEvent event : events) {
+      AsyncEvent queuedEvent = getQueuedEvent(event);
+      int bucketId = queuedEvent instanceof GatewaySenderEventImpl
+          ? ((GatewaySenderEventImpl) queuedEvent).getBucketId() : 0;
+      groups.get(Math.floorMod(bucketId, groupCount)).add(event);
+    }
+    groups.removeIf(List::isEmpty);
+    return groups;
+  }
+
+  /**
+   * Combines the events of the batch that are for the same region entry using the listener's
+   * {@link CoalescingAsyncEventListener#coalesce}. The combined event takes the position of the
+   * last event it replaces.
+   */
+  @VisibleForTesting
+  static List<AsyncEvent> coalesce(CoalescingAsyncEventListener listener,
+      List<AsyncEvent> events) {
+    Map<Map.Entry<String, Object>, AsyncEvent> coalescedEvents = new LinkedHashMap<>();
+    for (AsyncEvent event : events) {
+      Map.Entry<String, Object> entryKey =
+          new AbstractMap.SimpleImmutableEntry<>(getRegionPath(event), event.getKey());
+      AsyncEvent previous = coalescedEvents.remove(entryKey);
+      AsyncEvent coalesced = previous == null ? event : listener.coalesce(previous, event);
+      if (coalesced != null) {
+        coalescedEvents.put(entryKey, coalesced);
+      }
+    }
+    if (coalescedEvents.size() == events.size()) {
+      return events;
+    }
+    return new ArrayList<>(coalescedEvents.values());
+  }
+
+  private static String getRegionPath(AsyncEvent event) {
+    AsyncEvent queuedEvent = getQueuedEvent(event);
+    if (queuedEvent instanceof GatewaySenderEventImpl) {
+      return ((GatewaySenderEventImpl) queuedEvent).getRegionPath();
+    }
+    return queuedEvent.getRegion().getFullPath();
+  }
+
+  private static AsyncEvent getQueuedEvent(AsyncEvent event) {
+    if (event instanceof CoalescedAsyncEvent) {
+      return ((CoalescedAsyncEvent) event).getLatest();
+    }
+    return event;
+  }
+
   @Override
   public boolean isRemoteDispatcher() {
     return false;
@@ -176,8 +352,9 @@ public class GatewaySenderEventCallbackDispatcher implements GatewaySenderEventD
 
   @Override
   public void stop() {
-    // no op
-
+    if (listenerExecutor != null) {
+      listenerExecutor.shutdown();
+    }
   }
 
   @Override
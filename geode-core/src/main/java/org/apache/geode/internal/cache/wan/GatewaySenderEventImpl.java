@@ -163,6 +163,13 @@ public class GatewaySenderEventImpl
    * GatewaySenderEvent. But can be extended for for other GatewaySenderEvent.
    */
   protected volatile boolean isDispatched;
+
+  /**
+   * Whether the time this event waited in the queue has been recorded, which is only done the first
+   * time it is dispatched.
+   */
+  private transient boolean queueLatencyRecorded;
+
   /**
    * The creation timestamp in ms
    */
@@ -703,6 +710,19 @@ public class GatewaySenderEventImpl
     return this.creationTime;
   }
 
+  /**
+   * Marks the time this event waited in the queue as recorded.
+   *
+   * @return false if it was already recorded, when the event is dispatched again
+   */
+  boolean markQueueLatencyRecorded() {
+    if (this.queueLatencyRecorded) {
+      return false;
+    }
+    this.queueLatencyRecorded = true;
+    return true;
+  }
+
   @Override
   public int getDSFID() {
     return GATEWAY_SENDER_EVENT_IMPL;
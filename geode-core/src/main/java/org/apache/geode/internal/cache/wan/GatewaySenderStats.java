@@ -14,6 +14,10 @@
  */
 package org.apache.geode.internal.cache.wan;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.geode.StatisticDescriptor;
 import org.apache.geode.Statistics;
 import org.apache.geode.StatisticsFactory;
@@ -21,6 +25,7 @@ import org.apache.geode.StatisticsType;
 import org.apache.geode.StatisticsTypeFactory;
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.distributed.internal.DistributionStats;
+import org.apache.geode.internal.statistics.LatencyHistogram;
 import org.apache.geode.internal.statistics.StatisticsClock;
 import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
 
@@ -102,6 +107,10 @@ public class GatewaySenderStats {
   protected static final String SYNCHRONIZATION_EVENTS_ENQUEUED = "synchronizationEventsEnqueued";
   protected static final String SYNCHRONIZATION_EVENTS_PROVIDED = "synchronizationEventsProvided";
 
+  protected static final String EVENT_QUEUE_LATENCY = "eventQueueLatency";
+  protected static final String BATCH_ACK_LATENCY = "batchAckLatency";
+  protected static final String EVENT_REPLICATION_LAG = "eventReplicationLag";
+
   /** Id of the events queued statistic */
   private static final int eventsReceivedId;
   /** Id of the events queued statistic */
@@ -165,6 +174,12 @@ public class GatewaySenderStats {
   private static final int synchronizationEventsEnqueuedId;
   /** Id of synchronization events provided */
   private static final int synchronizationEventsProvidedId;
+  /** Histogram of the time events wait in the queue before they are dispatched */
+  private static final LatencyHistogram eventQueueLatency;
+  /** Histogram of the time between dispatching a batch and receiving its acknowledgement */
+  private static final LatencyHistogram batchAckLatency;
+  /** Histogram of the time between creating an event and receiving its acknowledgement */
+  private static final LatencyHistogram eventReplicationLag;
 
   /*
    * Static initializer to create and initialize the <code>StatisticsType</code>
@@ -210,90 +225,109 @@ public class GatewaySenderStats {
     loadBalanceTimeId = type.nameToId(LOAD_BALANCE_TIME);
     synchronizationEventsEnqueuedId = type.nameToId(SYNCHRONIZATION_EVENTS_ENQUEUED);
     synchronizationEventsProvidedId = type.nameToId(SYNCHRONIZATION_EVENTS_PROVIDED);
+    eventQueueLatency = new LatencyHistogram(type, EVENT_QUEUE_LATENCY);
+    batchAckLatency = new LatencyHistogram(type, BATCH_ACK_LATENCY);
+    eventReplicationLag = new LatencyHistogram(type, EVENT_REPLICATION_LAG);
   }
 
+  /**
+   * Creates a statistics type with every statistic of a gateway sender followed by the given
+   * additional statistics, so that the ids of the common statistics are the same in every type.
+   */
   protected static StatisticsType createType(final StatisticsTypeFactory f, final String typeName,
-      final String description) {
+      final String description, final StatisticDescriptor... additionalDescriptors) {
+    List<StatisticDescriptor> descriptors = new ArrayList<>(Arrays.asList(createDescriptors(f)));
+    descriptors.addAll(Arrays.asList(LatencyHistogram.createDescriptors(f, EVENT_QUEUE_LATENCY,
+        "Number of events that waited in the queue before being dispatched")));
+    descriptors.addAll(Arrays.asList(LatencyHistogram.createDescriptors(f, BATCH_ACK_LATENCY,
+        "Number of batches whose acknowledgement was received after being dispatched")));
+    descriptors.addAll(Arrays.asList(LatencyHistogram.createDescriptors(f, EVENT_REPLICATION_LAG,
+        "Number of events whose acknowledgement was received after being created")));
+    descriptors.addAll(Arrays.asList(additionalDescriptors));
     return f.createType(typeName, description,
-        new StatisticDescriptor[] {
-            f.createIntCounter(EVENTS_RECEIVED, "Number of events received by this queue.",
-                "operations"),
-            f.createIntCounter(EVENTS_QUEUED, "Number of events added to the event queue.",
-                "operations"),
-            f.createLongCounter(EVENT_QUEUE_TIME, "Total time spent queueing events.",
-                "nanoseconds"),
-            f.createIntGauge(EVENT_QUEUE_SIZE, "Size of the event queue.", "operations", false),
-            f.createIntGauge(SECONDARY_EVENT_QUEUE_SIZE, "Size of the secondary event queue.",
-                "operations", false),
-            f.createIntGauge(EVENTS_PROCESSED_BY_PQRM,
-                "Total number of events processed by Parallel Queue Removal Message(PQRM).",
-                "operations", false),
-            f.createIntGauge(TMP_EVENT_QUEUE_SIZE, "Size of the temporary events queue.",
-                "operations", false),
-            f.createIntCounter(EVENTS_NOT_QUEUED_CONFLATED,
-                "Number of events received but not added to the event queue because the queue already contains an event with the event's key.",
-                "operations"),
-            f.createIntCounter(EVENTS_CONFLATED_FROM_BATCHES,
-                "Number of events conflated from batches.", "operations"),
-            f.createIntCounter(EVENTS_DISTRIBUTED,
-                "Number of events removed from the event queue and sent.", "operations"),
-            f.createIntCounter(EVENTS_EXCEEDING_ALERT_THRESHOLD,
-                "Number of events exceeding the alert threshold.", "operations", false),
-            f.createLongCounter(BATCH_DISTRIBUTION_TIME,
-                "Total time spent distributing batches of events to receivers.", "nanoseconds"),
-            f.createIntCounter(BATCHES_DISTRIBUTED,
-                "Number of batches of events removed from the event queue and sent.", "operations"),
-            f.createIntCounter(BATCHES_REDISTRIBUTED,
-                "Number of batches of events removed from the event queue and resent.",
-                "operations", false),
-            f.createLongCounter(BATCHES_WITH_INCOMPLETE_TRANSACTIONS,
-                "Number of batches of events sent with incomplete transactions.",
-                "operations", false),
-            f.createIntCounter(BATCHES_RESIZED,
-                "Number of batches that were resized because they were too large", "operations",
-                false),
-            f.createIntCounter(UNPROCESSED_TOKENS_ADDED_BY_PRIMARY,
-                "Number of tokens added to the secondary's unprocessed token map by the primary (though a listener).",
-                "tokens"),
-            f.createIntCounter(UNPROCESSED_EVENTS_ADDED_BY_SECONDARY,
-                "Number of events added to the secondary's unprocessed event map by the secondary.",
-                "events"),
-            f.createIntCounter(UNPROCESSED_EVENTS_REMOVED_BY_PRIMARY,
-                "Number of events removed from the secondary's unprocessed event map by the primary (though a listener).",
-                "events"),
-            f.createIntCounter(UNPROCESSED_TOKENS_REMOVED_BY_SECONDARY,
-                "Number of tokens removed from the secondary's unprocessed token map by the secondary.",
-                "tokens"),
-            f.createIntCounter(UNPROCESSED_EVENTS_REMOVED_BY_TIMEOUT,
-                "Number of events removed from the secondary's unprocessed event map by a timeout.",
-                "events"),
-            f.createIntCounter(UNPROCESSED_TOKENS_REMOVED_BY_TIMEOUT,
-                "Number of tokens removed from the secondary's unprocessed token map by a timeout.",
-                "tokens"),
-            f.createIntGauge(UNPROCESSED_EVENT_MAP_SIZE,
-                "Current number of entries in the secondary's unprocessed event map.", "events",
-                false),
-            f.createIntGauge(UNPROCESSED_TOKEN_MAP_SIZE,
-                "Current number of entries in the secondary's unprocessed token map.", "tokens",
-                false),
-            f.createIntGauge(CONFLATION_INDEXES_MAP_SIZE,
-                "Current number of entries in the conflation indexes map.", "events"),
-            f.createIntCounter(NOT_QUEUED_EVENTS, "Number of events not added to queue.", "events"),
-            f.createIntCounter(EVENTS_DROPPED_DUE_TO_PRIMARY_SENDER_NOT_RUNNING,
-                "Number of events dropped because the primary gateway sender is not running.",
-                "events"),
-            f.createIntCounter(EVENTS_FILTERED,
-                "Number of events filtered through GatewayEventFilter.", "events"),
-            f.createIntCounter(LOAD_BALANCES_COMPLETED, "Number of load balances completed",
-                "operations"),
-            f.createIntGauge(LOAD_BALANCES_IN_PROGRESS, "Number of load balances in progress",
-                "operations"),
-            f.createLongCounter(LOAD_BALANCE_TIME, "Total time spent load balancing this sender",
-                "nanoseconds"),
-            f.createIntCounter(SYNCHRONIZATION_EVENTS_ENQUEUED,
-                "Number of synchronization events added to the event queue.", "operations"),
-            f.createIntCounter(SYNCHRONIZATION_EVENTS_PROVIDED,
-                "Number of synchronization events provided to other members.", "operations"),});
+        descriptors.toArray(new StatisticDescriptor[descriptors.size()]));
+  }
+
+  private static StatisticDescriptor[] createDescriptors(final StatisticsTypeFactory f) {
+    return new StatisticDescriptor[] {
+        f.createIntCounter(EVENTS_RECEIVED, "Number of events received by this queue.",
+            "operations"),
+        f.createIntCounter(EVENTS_QUEUED, "Number of events added to the event queue.",
+            "operations"),
+        f.createLongCounter(EVENT_QUEUE_TIME, "Total time spent queueing events.",
+            "nanoseconds"),
+        f.createIntGauge(EVENT_QUEUE_SIZE, "Size of the event queue.", "operations", false),
+        f.createIntGauge(SECONDARY_EVENT_QUEUE_SIZE, "Size of the secondary event queue.",
+            "operations", false),
+        f.createIntGauge(EVENTS_PROCESSED_BY_PQRM,
+            "Total number of events processed by Parallel Queue Removal Message(PQRM).",
+            "operations", false),
+        f.createIntGauge(TMP_EVENT_QUEUE_SIZE, "Size of the temporary events queue.",
+            "operations", false),
+        f.createIntCounter(EVENTS_NOT_QUEUED_CONFLATED,
+            "Number of events received but not added to the event queue because the queue already contains an event with the event's key.",
+            "operations"),
+        f.createIntCounter(EVENTS_CONFLATED_FROM_BATCHES,
+            "Number of events conflated from batches.", "operations"),
+        f.createIntCounter(EVENTS_DISTRIBUTED,
+            "Number of events removed from the event queue and sent.", "operations"),
+        f.createIntCounter(EVENTS_EXCEEDING_ALERT_THRESHOLD,
+            "Number of events exceeding the alert threshold.", "operations", false),
+        f.createLongCounter(BATCH_DISTRIBUTION_TIME,
+            "Total time spent distributing batches of events to receivers.", "nanoseconds"),
+        f.createIntCounter(BATCHES_DISTRIBUTED,
+            "Number of batches of events removed from the event queue and sent.", "operations"),
+        f.createIntCounter(BATCHES_REDISTRIBUTED,
+            "Number of batches of events removed from the event queue and resent.",
+            "operations", false),
+        f.createLongCounter(BATCHES_WITH_INCOMPLETE_TRANSACTIONS,
+            "Number of batches of events sent with incomplete transactions.",
+            "operations", false),
+        f.createIntCounter(BATCHES_RESIZED,
+            "Number of batches that were resized because they were too large", "operations",
+            false),
+        f.createIntCounter(UNPROCESSED_TOKENS_ADDED_BY_PRIMARY,
+            "Number of tokens added to the secondary's unprocessed token map by the primary (though a listener).",
+            "tokens"),
+        f.createIntCounter(UNPROCESSED_EVENTS_ADDED_BY_SECONDARY,
+            "Number of events added to the secondary's unprocessed event map by the secondary.",
+            "events"),
+        f.createIntCounter(UNPROCESSED_EVENTS_REMOVED_BY_PRIMARY,
+            "Number of events removed from the secondary's unprocessed event map by the primary (though a listener).",
+            "events"),
+        f.createIntCounter(UNPROCESSED_TOKENS_REMOVED_BY_SECONDARY,
+            "Number of tokens removed from the secondary's unprocessed token map by the secondary.",
+            "tokens"),
+        f.createIntCounter(UNPROCESSED_EVENTS_REMOVED_BY_TIMEOUT,
+            "Number of events removed from the secondary's unprocessed event map by a timeout.",
+            "events"),
+        f.createIntCounter(UNPROCESSED_TOKENS_REMOVED_BY_TIMEOUT,
+            "Number of tokens removed from the secondary's unprocessed token map by a timeout.",
+            "tokens"),
+        f.createIntGauge(UNPROCESSED_EVENT_MAP_SIZE,
+            "Current number of entries in the secondary's unprocessed event map.", "events",
+            false),
+        f.createIntGauge(UNPROCESSED_TOKEN_MAP_SIZE,
+            "Current number of entries in the secondary's unprocessed token map.", "tokens",
+            false),
+        f.createIntGauge(CONFLATION_INDEXES_MAP_SIZE,
+            "Current number of entries in the conflation indexes map.", "events"),
+        f.createIntCounter(NOT_QUEUED_EVENTS, "Number of events not added to queue.", "events"),
+        f.createIntCounter(EVENTS_DROPPED_DUE_TO_PRIMARY_SENDER_NOT_RUNNING,
+            "Number of events dropped because the primary gateway sender is not running.",
+            "events"),
+        f.createIntCounter(EVENTS_FILTERED,
+            "Number of events filtered through GatewayEventFilter.", "events"),
+        f.createIntCounter(LOAD_BALANCES_COMPLETED, "Number of load balances completed",
+            "operations"),
+        f.createIntGauge(LOAD_BALANCES_IN_PROGRESS, "Number of load balances in progress",
+            "operations"),
+        f.createLongCounter(LOAD_BALANCE_TIME, "Total time spent load balancing this sender",
+            "nanoseconds"),
+        f.createIntCounter(SYNCHRONIZATION_EVENTS_ENQUEUED,
+            "Number of synchronization events added to the event queue.", "operations"),
+        f.createIntCounter(SYNCHRONIZATION_EVENTS_PROVIDED,
+            "Number of synchronization events provided to other members.", "operations"),};
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -898,6 +932,17 @@ public class GatewaySenderStats {
     this.stats.incLong(eventQueueTimeId, elapsed);
   }
 
+  /**
+   * Returns the current time of the statistics clock, which is zero while the clock is disabled.
+   */
+  public long getTime() {
+    return statisticsClock.getTime();
+  }
+
+  public boolean isClockEnabled() {
+    return statisticsClock.isEnabled();
+  }
+
   public long startLoadBalance() {
     stats.incInt(loadBalancesInProgressId, 1);
     return statisticsClock.getTime();
@@ -924,6 +969,54 @@ public class GatewaySenderStats {
     this.stats.incInt(synchronizationEventsProvidedId, 1);
   }
 
+  /**
+   * Records how long an event waited in the queue before it was dispatched.
+   *
+   * @param millis the time between the creation of the event and its dispatch
+   */
+  public void recordEventQueueLatency(long millis) {
+    eventQueueLatency.recordMillis(stats, millis);
+  }
+
+  /**
+   * Records the time between dispatching a batch and receiving its acknowledgement, which covers
+   * the network round trip and the time the receiver spent applying the batch.
+   */
+  public void recordBatchAckLatency(long nanos) {
+    batchAckLatency.recordNanos(stats, nanos);
+  }
+
+  /**
+   * Records the end-to-end lag of an event, from its creation to the acknowledgement of the batch
+   * that carried it.
+   */
+  public void recordEventReplicationLag(long millis) {
+    eventReplicationLag.recordMillis(stats, millis);
+  }
+
+  /**
+   * @return an estimate in milliseconds of the given percentile of the time events wait in the
+   *         queue
+   */
+  public long getEventQueueLatencyPercentile(double percentile) {
+    return eventQueueLatency.getPercentileMillis(stats, percentile);
+  }
+
+  /**
+   * @return an estimate in milliseconds of the given percentile of the time batches wait for their
+   *         acknowledgement
+   */
+  public long getBatchAckLatencyPercentile(double percentile) {
+    return batchAckLatency.getPercentileMillis(stats, percentile);
+  }
+
+  /**
+   * @return an estimate in milliseconds of the given percentile of the end-to-end lag of events
+   */
+  public long getEventReplicationLagPercentile(double percentile) {
+    return eventReplicationLag.getPercentileMillis(stats, percentile);
+  }
+
   public Statistics getStats() {
     return stats;
   }
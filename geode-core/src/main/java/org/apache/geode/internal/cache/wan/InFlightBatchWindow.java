@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounds the batches a gateway sender event processor has dispatched but not yet seen acknowledged.
+ * The window is limited by a number of batches and by the total size of their events; a limit of 0
+ * disables that bound. Batches may be released in any order, so a late acknowledgement for one
+ * batch does not hold back the window for the batches sent after it.
+ * <p>
+ * A single batch larger than the byte limit is still admitted once the window is empty, so an
+ * unusually large batch cannot stall the sender. A batch that is dispatched again under the same id
+ * replaces its earlier entry rather than waiting for it.
+ * <p>
+ * Only batches that are acknowledged by a remote site are tracked; an AsyncEventQueue dispatches
+ * to its listeners synchronously and never enters the window.
+ */
+class InFlightBatchWindow {
+
+  /**
+   * How long a waiting dispatcher sleeps before checking whether it should stop waiting.
+   */
+  private static final long WAIT_INTERVAL_MILLIS = 100;
+
+  private final int maxBatches;
+  private final long maxBytes;
+
+  private final Map<Integer, Long> inFlightBatches = new HashMap<>();
+  private long inFlightBytes;
+
+  InFlightBatchWindow(int maxBatches, long maxBytes) {
+    this.maxBatches = maxBatches;
+    this.maxBytes = maxBytes;
+  }
+
+  boolean isEnabled() {
+    return maxBatches > 0 || maxBytes > 0;
+  }
+
+  /**
+   * Waits until the batch fits in the window and records it as in flight. The wait ends early,
+   * recording the batch anyway, once {@code stopWaiting} returns true.
+   *
+   * @return true if the caller had to wait for room in the window
+   */
+  synchronized boolean acquire(int batchId, long batchBytes, BooleanSupplier stopWaiting)
+      throws InterruptedException {
+    boolean waited = false;
+    while (!hasRoomFor(batchId, batchBytes) && !stopWaiting.getAsBoolean()) {
+      waited = true;
+      wait(WAIT_INTERVAL_MILLIS);
+    }
+    Long previous = inFlightBatches.put(batchId, batchBytes);
+    if (previous != null) {
+      inFlightBytes -= previous;
+    }
+    inFlightBytes += batchBytes;
+    return waited;
+  }
+
+  /**
+   * Removes an acknowledged batch from the window. Releasing a batch that is not in flight, for
+   * example one dispatched before the window was cleared, does nothing.
+   */
+  synchronized void release(int batchId) {
+    Long batchBytes = inFlightBatches.remove(batchId);
+    if (batchBytes != null) {
+      inFlightBytes -= batchBytes;
+      notifyAll();
+    }
+  }
+
+  /**
+   * Forgets every batch in flight, for example because they will all be peeked and sent again.
+   */
+  synchronized void clear() {
+    inFlightBatches.clear();
+    inFlightBytes = 0;
+    notifyAll();
+  }
+
+  synchronized int getInFlightBatches() {
+    return inFlightBatches.size();
+  }
+
+  synchronized long getInFlightBytes() {
+    return inFlightBytes;
+  }
+
+  private boolean hasRoomFor(int batchId, long batchBytes) {
+    int otherBatches = inFlightBatches.size();
+    long otherBytes = inFlightBytes;
+    Long previous = inFlightBatches.get(batchId);
+    if (previous != null) {
+      otherBatches--;
+      otherBytes -= previous;
+    }
+    if (otherBatches == 0) {
+      return true;
+    }
+    if (maxBatches > 0 && otherBatches >= maxBatches) {
+      return false;
+    }
+    return maxBytes <= 0 || otherBytes + batchBytes <= maxBytes;
+  }
+}
@@ -99,6 +99,7 @@ import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.management.ManagementService;
 import org.apache.geode.management.internal.beans.AsyncEventQueueMBean;
 import org.apache.geode.management.internal.beans.GatewaySenderMBean;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 public class ParallelGatewaySenderQueue implements RegionQueue {
   protected static final Logger logger = LogService.getLogger();
@@ -179,6 +180,15 @@ public class ParallelGatewaySenderQueue implements RegionQueue {
 
   public static final String QSTRING = "_PARALLEL_GATEWAY_SENDER_QUEUE";
 
+  /**
+   * Whether the shadow regions holding the queued events are stored in off-heap memory. Each
+   * queued event is then kept as serialized bytes off-heap rather than as objects on the java heap,
+   * which keeps very large queues out of the garbage collector's way. Requires off-heap memory to
+   * be configured and must be set the same on every member hosting the queue.
+   */
+  private static final boolean QUEUE_OFF_HEAP =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "GatewaySender.QUEUE_OFF_HEAP");
+
   /**
    * Fixed size Thread pool for conflating the events in the queue. The size of the thread pool is
    * set to the number of processors available to the JVM. There will be one thread pool per
@@ -377,6 +387,7 @@ public class ParallelGatewaySenderQueue implements RegionQueue {
 
         fact.setEvictionAttributes(ea);
         fact.setPartitionAttributes(pfact.create());
+        fact.setOffHeap(useOffHeapQueue(cache));
 
         final RegionAttributes ra = fact.getCreateAttributes();
 
@@ -537,6 +548,7 @@ public class ParallelGatewaySenderQueue implements RegionQueue {
 
         fact.setEvictionAttributes(ea);
         fact.setPartitionAttributes(pfact.create());
+        fact.setOffHeap(useOffHeapQueue(cache));
 
         final RegionAttributes ra = fact.getCreateAttributes();
 
@@ -946,6 +958,19 @@ public class ParallelGatewaySenderQueue implements RegionQueue {
     }
   }
 
+  private boolean useOffHeapQueue(InternalCache cache) {
+    if (!QUEUE_OFF_HEAP) {
+      return false;
+    }
+    if (cache.getOffHeapStore() == null) {
+      logger.warn(
+          "{}: The queue of gateway sender {} will be stored on the heap because no off-heap memory is configured",
+          this, sender.getId());
+      return false;
+    }
+    return true;
+  }
+
   /**
    * This returns queueRegion if there is only one PartitionedRegion using the GatewaySender
    * Otherwise it returns null.
@@ -1148,6 +1173,65 @@ public class ParallelGatewaySenderQueue implements RegionQueue {
     addRemovedEvent(prQ, bucketId, key);
   }
 
+  /**
+   * Returns, in key order, up to maxEvents of the events queued for a partitioned region in a
+   * local primary bucket whose shadow keys are at least fromKey, without removing them.
+   *
+   * @throws PrimaryBucketException if the bucket is not primary on this member
+   */
+  public List<GatewaySenderEventImpl> getEventsFrom(PartitionedRegion userRegion, int bucketId,
+      long fromKey, int maxEvents) {
+    return getPrimaryBucketRegionQueue(getShadowPR(userRegion), bucketId).getEventsFrom(fromKey,
+        maxEvents);
+  }
+
+  /**
+   * Removes the events queued for a partitioned region in a local primary bucket whose shadow keys
+   * are less than the given key, the same way dispatched events are removed.
+   *
+   * @return the number of events removed
+   * @throws PrimaryBucketException if the bucket is not primary on this member
+   */
+  public int removeEventsBefore(PartitionedRegion userRegion, int bucketId, long key) {
+    PartitionedRegion prQ = getShadowPR(userRegion);
+    List<Long> keys = getPrimaryBucketRegionQueue(prQ, bucketId).removeKeysBefore(key);
+    for (Long queuedKey : keys) {
+      destroyEventFromQueue(prQ, bucketId, queuedKey);
+    }
+    return keys.size();
+  }
+
+  /**
+   * Returns the buckets of the queue of a partitioned region that are primary on this member.
+   */
+  public Set<Integer> getLocalPrimaryBucketIds(PartitionedRegion userRegion) {
+    PartitionedRegion prQ = getShadowPR(userRegion);
+    if (prQ.getDataStore() == null) {
+      return Collections.emptySet();
+    }
+    return prQ.getDataStore().getAllLocalPrimaryBucketIds();
+  }
+
+  private PartitionedRegion getShadowPR(PartitionedRegion userRegion) {
+    PartitionedRegion prQ = this.userRegionNameToShadowPRMap
+        .get(ColocationHelper.getLeaderRegion(userRegion).getFullPath());
+    if (prQ == null) {
+      throw new IllegalArgumentException(String.format("Region %s does not use the queue of %s",
+          userRegion.getFullPath(), this.sender.getId()));
+    }
+    return prQ;
+  }
+
+  private BucketRegionQueue getPrimaryBucketRegionQueue(PartitionedRegion prQ, int bucketId) {
+    BucketRegionQueue brq =
+        prQ.getDataStore() == null ? null : getBucketRegionQueueByBucketId(prQ, bucketId);
+    if (brq == null || !brq.getBucketAdvisor().isPrimary()) {
+      throw new PrimaryBucketException(String.format("Bucket %s of %s is not primary on this member",
+          bucketId, prQ.getFullPath()));
+    }
+    return brq;
+  }
+
   public void resetLastPeeked() {
     this.resetLastPeeked = true;
 
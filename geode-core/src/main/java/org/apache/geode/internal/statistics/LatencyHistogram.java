@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+import org.apache.geode.annotations.Immutable;
+
+/**
+ * A histogram of latencies kept as counters of an existing statistics type. Each bucket is a
+ * counter named after the histogram and the upper bound of the bucket in milliseconds, for example
+ * {@code fooLatencyLE10ms}, plus a final {@code fooLatencyGT60000ms} bucket for everything slower.
+ * Recording a latency is a single counter increment, and because the buckets are ordinary
+ * statistics they are archived and can be read from JMX along with the rest of their type.
+ * Percentiles are estimated from the buckets with {@link #getPercentileMillis}, either over
+ * everything recorded or over the difference of the bucket counters between two samples.
+ */
+public class LatencyHistogram {
+
+  /**
+   * The upper bounds, in milliseconds, of every bucket but the last.
+   */
+  @Immutable
+  private static final long[] BREAKPOINTS_MILLIS =
+      {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000};
+
+  private final int[] bucketIds;
+
+  /**
+   * Creates the bucket counters of a histogram, to be included in a statistics type.
+   *
+   * @param name the name of the histogram, used as the prefix of the counter names
+   * @param description what the histogram measures
+   */
+  public static StatisticDescriptor[] createDescriptors(StatisticsTypeFactory f, String name,
+      String description) {
+    StatisticDescriptor[] descriptors = new StatisticDescriptor[BREAKPOINTS_MILLIS.length + 1];
+    for (int i = 0; i < BREAKPOINTS_MILLIS.length; i++) {
+      descriptors[i] = f.createLongCounter(bucketName(name, i),
+          description + " that took at most " + BREAKPOINTS_MILLIS[i] + " milliseconds.",
+          "operations", false);
+    }
+    descriptors[BREAKPOINTS_MILLIS.length] =
+        f.createLongCounter(bucketName(name, BREAKPOINTS_MILLIS.length),
+            description + " that took more than "
+                + BREAKPOINTS_MILLIS[BREAKPOINTS_MILLIS.length - 1] + " milliseconds.",
+            "operations", false);
+    return descriptors;
+  }
+
+  /**
+   * @param type a statistics type that includes the descriptors created for this histogram's name
+   * @param name the name the descriptors were created with
+   */
+  public LatencyHistogram(StatisticsType type, String name) {
+    bucketIds = new int[BREAKPOINTS_MILLIS.length + 1];
+    for (int i = 0; i < bucketIds.length; i++) {
+      bucketIds[i] = type.nameToId(bucketName(name, i));
+    }
+  }
+
+  /**
+   * Returns the names of the bucket counters of a histogram, from the fastest bucket to the
+   * slowest.
+   */
+  public static String[] getBucketNames(String name) {
+    String[] names = new String[BREAKPOINTS_MILLIS.length + 1];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = bucketName(name, i);
+    }
+    return names;
+  }
+
+  private static String bucketName(String name, int bucket) {
+    if (bucket < BREAKPOINTS_MILLIS.length) {
+      return name + "LE" + BREAKPOINTS_MILLIS[bucket] + "ms";
+    }
+    return name + "GT" + BREAKPOINTS_MILLIS[BREAKPOINTS_MILLIS.length - 1] + "ms";
+  }
+
+  public void recordNanos(Statistics stats, long nanos) {
+    recordMillis(stats, TimeUnit.NANOSECONDS.toMillis(nanos));
+  }
+
+  public void recordMillis(Statistics stats, long millis) {
+    stats.incLong(bucketIds[bucketFor(millis)], 1);
+  }
+
+  /**
+   * Estimates a percentile of the recorded latencies.
+   *
+   * @param percentile the percentile to estimate, between 0 and 100
+   * @return the upper bound in milliseconds of the bucket holding the percentile, or 0 when nothing
+   *         has been recorded. Percentiles in the last bucket are reported as its lower bound.
+   */
+  public long getPercentileMillis(Statistics stats, double percentile) {
+    long[] bucketCounts = new long[bucketIds.length];
+    for (int i = 0; i < bucketIds.length; i++) {
+      bucketCounts[i] = stats.getLong(bucketIds[i]);
+    }
+    return getPercentileMillis(bucketCounts, percentile);
+  }
+
+  /**
+   * Estimates a percentile from the number of latencies in each bucket, for example the increase of
+   * each bucket counter since an earlier sample.
+   *
+   * @param bucketCounts the number of latencies in each bucket, in the order of
+   *        {@link #getBucketNames}
+   * @param percentile the percentile to estimate, between 0 and 100
+   * @return the same as {@link #getPercentileMillis(Statistics, double)}
+   */
+  public static long getPercentileMillis(long[] bucketCounts, double percentile) {
+    long total = 0;
+    for (long count : bucketCounts) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(total * percentile / 100.0);
+    long seen = 0;
+    for (int i = 0; i < BREAKPOINTS_MILLIS.length; i++) {
+      seen += bucketCounts[i];
+      if (seen >= rank) {
+        return BREAKPOINTS_MILLIS[i];
+      }
+    }
+    return BREAKPOINTS_MILLIS[BREAKPOINTS_MILLIS.length - 1];
+  }
+
+  private static int bucketFor(long millis) {
+    for (int i = 0; i < BREAKPOINTS_MILLIS.length; i++) {
+      if (millis <= BREAKPOINTS_MILLIS[i]) {
+        return i;
+      }
+    }
+    return BREAKPOINTS_MILLIS.length;
+  }
+}
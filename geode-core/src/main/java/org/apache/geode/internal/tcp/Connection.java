@@ -37,6 +37,7 @@ import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SocketChannel;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -255,6 +256,19 @@ public class Connection implements Runnable {
    */
   private long queuedBytes;
 
+  /**
+   * Number of ConflationKeys left in the outgoingQueue after a later update to the same entry
+   * replaced their message. They carry no bytes but still occupy a slot until they are dequeued,
+   * so once they make up most of the queue it is compacted. Guarded by outgoingQueue.
+   */
+  private int staleConflatedEntries;
+
+  /**
+   * The outgoingQueue is only compacted once it holds at least this many stale ConflationKeys so
+   * that small queues are never scanned.
+   */
+  private static final int MIN_STALE_CONFLATED_ENTRIES_TO_COMPACT = 1024;
+
   /** used for async writes */
   private Thread pusherThread;
 
@@ -435,6 +449,16 @@ public class Connection implements Runnable {
   private ByteBuffer sendBatchBuffer;
   private BatchBufferFlusher batchFlusher;
 
+  /**
+   * Combine messages that threads send concurrently on a shared connection into a single socket
+   * write. Unlike batch sends no delay is added, since only messages that would otherwise have
+   * waited for the socket are combined.
+   */
+  private static final boolean COALESCE_WRITES = Boolean.getBoolean("p2p.coalesceWrites");
+  private static final int COALESCE_WRITES_MAX_BYTES =
+      Integer.getInteger("p2p.coalesceWritesMaxBytes", 64 * 1024);
+  private WriteCoalescer writeCoalescer;
+
   /**
    * use to test message prep overhead (no socket write). WARNING: turning this on completely
    * disables distribution of batched sends
@@ -1128,6 +1152,9 @@ public class Connection implements Runnable {
     }
     if (preserveOrder && BATCH_SENDS) {
       conn.createBatchSendBuffer();
+    } else if (sharedResource && COALESCE_WRITES) {
+      conn.writeCoalescer =
+          new WriteCoalescer(COALESCE_WRITES_MAX_BYTES, t.getConduit().getStats());
     }
     conn.finishedConnecting = true;
     return conn;
@@ -1973,6 +2000,27 @@ public class Connection implements Runnable {
     handshakeRead = true;
   }
 
+  /**
+   * For testing we want to queue messages without having to read the async settings from a
+   * handshake
+   */
+  @VisibleForTesting
+  void setAsyncMaxQueueSizeForTest(long asyncMaxQueueSize) {
+    this.asyncMaxQueueSize = asyncMaxQueueSize;
+  }
+
+  @VisibleForTesting
+  void setAsyncQueuingInProgressForTest(boolean asyncQueuingInProgress) {
+    this.asyncQueuingInProgress = asyncQueuingInProgress;
+  }
+
+  @VisibleForTesting
+  int getOutgoingQueueLength() {
+    synchronized (outgoingQueue) {
+      return outgoingQueue.size();
+    }
+  }
+
   /**
    * ensure that a task is running to monitor transmission and reading of acks
    */
@@ -2079,7 +2127,8 @@ public class Connection implements Runnable {
     return false;
   }
 
-  private boolean addToQueue(ByteBuffer buffer, DistributionMessage msg, boolean force)
+  @VisibleForTesting
+  boolean addToQueue(ByteBuffer buffer, DistributionMessage msg, boolean force)
       throws ConnectionException {
     final DMStats stats = owner.getConduit().getStats();
     long start = DistributionStats.getStatTime();
@@ -2135,11 +2184,14 @@ public class Connection implements Runnable {
 
               if (outgoingQueue.getLast() == oldck) {
                 outgoingQueue.removeLast();
+              } else {
+                staleConflatedEntries++;
               }
               int oldBytes = oldBuffer.remaining();
               queuedBytes -= oldBytes;
               stats.incAsyncQueueSize(-oldBytes);
               stats.incAsyncConflatedMsgs();
+              stats.incAsyncConflatedBytes(oldBytes);
               didConflation = true;
               if (oldBuffer.capacity() >= newBytes) {
                 // copy new buffer into oldBuffer
@@ -2183,6 +2235,9 @@ public class Connection implements Runnable {
         stats.incAsyncQueueSize(newBytes);
         if (!didConflation) {
           stats.incAsyncQueuedMsgs();
+        } else if (staleConflatedEntries >= MIN_STALE_CONFLATED_ENTRIES_TO_COMPACT
+            && staleConflatedEntries > outgoingQueue.size() / 2) {
+          compactOutgoingQueue(stats);
         }
         return true;
       }
@@ -2193,6 +2248,24 @@ public class Connection implements Runnable {
     }
   }
 
+  /**
+   * Removes the ConflationKeys whose message was replaced by a later update to the same entry from
+   * the outgoingQueue. This keeps a slow receiver's queue proportional to the number of distinct
+   * entries being updated rather than to the number of updates. The caller must hold the
+   * outgoingQueue lock.
+   */
+  private void compactOutgoingQueue(DMStats stats) {
+    Iterator it = outgoingQueue.iterator();
+    while (it.hasNext()) {
+      Object o = it.next();
+      if (o instanceof ConflationKey && ((ConflationKey) o).getBuffer() == null) {
+        it.remove();
+      }
+    }
+    staleConflatedEntries = 0;
+    stats.incAsyncQueueCompactions();
+  }
+
   /**
    * Return true if it was able to handle a block write of the given buffer. Return false if it is
    * still the caller is still responsible for writing it.
@@ -2257,6 +2330,9 @@ public class Connection implements Runnable {
             } else {
               // if result is null then this same key will be found later in the
               // queue so we just need to skip this entry
+              if (staleConflatedEntries > 0) {
+                staleConflatedEntries--;
+              }
               continue;
             }
           } else {
@@ -2632,38 +2708,113 @@ public class Connection implements Runnable {
       stats.incTOSentMsg();
     }
     if (useSyncWrites(forceAsync)) {
+      if (writeCoalescer != null) {
+        writeCoalescer.write(buffer, msg, new WriteCoalescer.Writer() {
+          @Override
+          public void write(ByteBuffer buffer, DistributionMessage msg) throws IOException {
+            writeSync(channel, buffer, msg, stats);
+          }
+
+          @Override
+          public void writeCombined(ByteBuffer buffer, DistributionMessage[] msgs, int[] sizes,
+              int count) throws IOException {
+            writeSyncCombined(channel, buffer, msgs, sizes, count, stats);
+          }
+        });
+      } else {
+        writeSync(channel, buffer, msg, stats);
+      }
+    } else {
+      writeAsync(channel, buffer, forceAsync, msg, stats);
+    }
+  }
+
+  private void writeSync(SocketChannel channel, ByteBuffer buffer, DistributionMessage msg,
+      DMStats stats) throws IOException {
+    if (asyncQueuingInProgress) {
+      if (addToQueue(buffer, msg, false)) {
+        return;
+      }
+      // fall through
+    }
+    long startLock = stats.startSocketLock();
+    synchronized (outLock) {
+      stats.endSocketLock(startLock);
       if (asyncQueuingInProgress) {
         if (addToQueue(buffer, msg, false)) {
           return;
         }
         // fall through
       }
-      long startLock = stats.startSocketLock();
-      synchronized (outLock) {
-        stats.endSocketLock(startLock);
-        if (asyncQueuingInProgress) {
-          if (addToQueue(buffer, msg, false)) {
-            return;
-          }
-          // fall through
+      writeToChannel(channel, buffer, stats);
+    }
+  }
+
+  /**
+   * Like writeSync for a buffer combining several messages. If the messages have to be queued,
+   * each one is queued with its own message so that it keeps its conflation key.
+   */
+  private void writeSyncCombined(SocketChannel channel, ByteBuffer buffer,
+      DistributionMessage[] msgs, int[] sizes, int count, DMStats stats) throws IOException {
+    int queued = 0;
+    if (asyncQueuingInProgress) {
+      queued = addEachToQueue(buffer, msgs, sizes, queued, count);
+      if (queued == count) {
+        return;
+      }
+      // fall through
+    }
+    long startLock = stats.startSocketLock();
+    synchronized (outLock) {
+      stats.endSocketLock(startLock);
+      if (asyncQueuingInProgress) {
+        queued = addEachToQueue(buffer, msgs, sizes, queued, count);
+        if (queued == count) {
+          return;
         }
-        try (final ByteBufferSharing outputSharing = ioFilter.wrap(buffer)) {
-          final ByteBuffer wrappedBuffer = outputSharing.getBuffer();
+        // fall through
+      }
+      writeToChannel(channel, buffer, stats);
+    }
+  }
 
-          while (wrappedBuffer.remaining() > 0) {
-            int amtWritten = 0;
-            long start = stats.startSocketWrite(true);
-            try {
-              amtWritten = channel.write(wrappedBuffer);
-            } finally {
-              stats.endSocketWrite(true, start, amtWritten, 0);
-            }
-          }
+  /**
+   * Queues the messages of a combined buffer one at a time, starting with the one at index
+   * {@code first}, which starts at the buffer's position. The position is advanced past each
+   * message that is queued.
+   *
+   * @return the index of the first message that was not queued because queuing has stopped, or
+   *         {@code count} if they were all queued
+   */
+  @VisibleForTesting
+  int addEachToQueue(ByteBuffer buffer, DistributionMessage[] msgs, int[] sizes,
+      int first, int count) throws ConnectionException {
+    for (int i = first; i < count; i++) {
+      ByteBuffer message = buffer.duplicate();
+      message.limit(buffer.position() + sizes[i]);
+      if (!addToQueue(message, msgs[i], false)) {
+        return i;
+      }
+      buffer.position(buffer.position() + sizes[i]);
+    }
+    return count;
+  }
+
+  private void writeToChannel(SocketChannel channel, ByteBuffer buffer, DMStats stats)
+      throws IOException {
+    try (final ByteBufferSharing outputSharing = ioFilter.wrap(buffer)) {
+      final ByteBuffer wrappedBuffer = outputSharing.getBuffer();
 
+      while (wrappedBuffer.remaining() > 0) {
+        int amtWritten = 0;
+        long start = stats.startSocketWrite(true);
+        try {
+          amtWritten = channel.write(wrappedBuffer);
+        } finally {
+          stats.endSocketWrite(true, start, amtWritten, 0);
         }
       }
-    } else {
-      writeAsync(channel, buffer, forceAsync, msg, stats);
+
     }
   }
 
@@ -134,6 +134,14 @@ public class ConnectionTable {
   private static final long READER_POOL_KEEP_ALIVE_TIME =
       Long.getLong("p2p.READER_POOL_KEEP_ALIVE_TIME", 120);
 
+  /**
+   * Run p2p reader and handshaker threads on virtual threads when the JVM supports them (JDK 21 or
+   * later). With conserve-sockets=false every peer connection has its own reader, so this avoids a
+   * platform thread, and its stack, per connection. Readers block in SocketChannel.read while
+   * holding only the ReentrantLock of their input buffer, which does not pin the carrier thread.
+   */
+  private static final boolean USE_VIRTUAL_THREADS = Boolean.getBoolean("p2p.useVirtualThreads");
+
   private final SocketCloser socketCloser;
 
   /**
@@ -201,6 +209,14 @@ public class ConnectionTable {
   }
 
   private Executor createThreadPoolForIO(boolean conserveSockets) {
+    if (USE_VIRTUAL_THREADS) {
+      if (LoggingExecutors.isVirtualThreadSupported()) {
+        return LoggingExecutors.newVirtualThreadPerTaskExecutor(
+            conserveSockets ? "SharedP2PReader" : "UnsharedP2PReader");
+      }
+      logger.warn("p2p.useVirtualThreads is set but this JVM does not support virtual threads; "
+          + "using platform threads for P2P readers");
+    }
     if (conserveSockets) {
       return LoggingExecutors.newThreadOnEachExecute("SharedP2PReader");
     }
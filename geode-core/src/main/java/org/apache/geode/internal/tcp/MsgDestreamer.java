@@ -14,6 +14,7 @@
  */
 package org.apache.geode.internal.tcp;
 
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,7 +31,7 @@ import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.ReplyProcessor21;
 import org.apache.geode.internal.InternalDataSerializer;
 import org.apache.geode.internal.serialization.KnownVersion;
-import org.apache.geode.internal.serialization.VersionedDataInputStream;
+import org.apache.geode.internal.serialization.VersionedDataStream;
 
 /**
  * <p>
@@ -68,8 +69,8 @@ public class MsgDestreamer {
 
   public MsgDestreamer(DMStats stats, CancelCriterion stopper, KnownVersion v) {
     this.stopper = stopper;
-    this.t = new DestreamerThread(stats, stopper);
     this.version = v;
+    this.t = new DestreamerThread(stats, stopper);
     init();
   }
 
@@ -217,7 +218,8 @@ public class MsgDestreamer {
     public DestreamerThread(DMStats stats, CancelCriterion stopper) {
       setDaemon(true);
       super.setName("IDLE p2pDestreamer");
-      this.is = new DestreamerIS(this, stopper);
+      this.is = version == null ? new DestreamerIS(this, stopper)
+          : new VersionedDestreamerIS(this, stopper, version);
       this.stats = stats;
     }
     // private final String me = "DestreamerThread<" + System.identityHashCode(this) + ">";
@@ -239,12 +241,8 @@ public class MsgDestreamer {
         }
         try {
           ReplyProcessor21.initMessageRPId();
-          final KnownVersion v = version;
-          DataInputStream dis =
-              v == null ? new DataInputStream(this.is)
-                  : new VersionedDataInputStream(this.is, v);
           long startSer = this.stats.startMsgDeserialization();
-          setResult((DistributionMessage) InternalDataSerializer.readDSFID(dis));
+          setResult((DistributionMessage) InternalDataSerializer.readDSFID(this.is));
           this.stats.endMsgDeserialization(startSer);
         } catch (VirtualMachineError err) {
           SystemFailure.initiateFailure(err);
@@ -279,8 +277,13 @@ public class MsgDestreamer {
    * This input stream waits for data to be available. Once it is provided, by a call to addChunk,
    * it will stream the data in from that chunk, signal that is has completed, and then wait for
    * another chunk.
+   * <p>
+   * It is also the DataInput the message is deserialized from. Primitives that lie entirely
+   * within the current chunk are read from the chunk with a single ByteBuffer get, instead of one
+   * read() per byte as a DataInputStream wrapper would do. Only values that straddle two chunks are
+   * assembled a byte at a time.
    */
-  private static class DestreamerIS extends InputStream {
+  private static class DestreamerIS extends InputStream implements DataInput {
     final Object dataMon = new Object();
     final Object doneMon = new Object();
     ByteBuffer data;
@@ -528,6 +531,149 @@ public class MsgDestreamer {
       }
     }
 
+    /**
+     * Returns the current chunk if it still holds at least {@code size} bytes, otherwise null in
+     * which case the caller must read the value a byte at a time across the chunk boundary.
+     */
+    private ByteBuffer chunkWithRemaining(int size) throws IOException {
+      ByteBuffer bb = waitForAvailableData();
+      return bb.remaining() >= size ? bb : null;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+      readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+      int bytesRead = 0;
+      while (bytesRead < len) {
+        bytesRead += read(b, off + bytesRead, len - bytesRead);
+      }
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOException {
+      int skipped = 0;
+      while (skipped < n) {
+        ByteBuffer bb = waitForAvailableData();
+        int bytesToSkip = Math.min(bb.remaining(), n - skipped);
+        bb.position(bb.position() + bytesToSkip);
+        skipped += bytesToSkip;
+      }
+      return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+      return read() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+      return (byte) read();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+      return read();
+    }
+
+    @Override
+    public short readShort() throws IOException {
+      ByteBuffer bb = chunkWithRemaining(2);
+      if (bb != null) {
+        return bb.getShort();
+      }
+      return (short) ((read() << 8) | read());
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+      return readShort() & 0xffff;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+      return (char) readShort();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+      ByteBuffer bb = chunkWithRemaining(4);
+      if (bb != null) {
+        return bb.getInt();
+      }
+      return (read() << 24) | (read() << 16) | (read() << 8) | read();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+      ByteBuffer bb = chunkWithRemaining(8);
+      if (bb != null) {
+        return bb.getLong();
+      }
+      return ((long) readInt() << 32) | (readInt() & 0xffffffffL);
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+      return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+      return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads a line the way {@link DataInputStream#readLine()} does. A carriage return followed by a
+     * line feed is only taken as one terminator when both are in the same chunk, since looking at
+     * the next chunk would wait for data that may never come.
+     */
+    @Override
+    public String readLine() throws IOException {
+      StringBuilder line = new StringBuilder();
+      while (true) {
+        int c = read();
+        if (c == '\n') {
+          break;
+        }
+        if (c == '\r') {
+          ByteBuffer bb = this.data;
+          if (bb != null && bb.hasRemaining() && bb.get(bb.position()) == '\n') {
+            bb.get();
+          }
+          break;
+        }
+        line.append((char) c);
+      }
+      return line.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+      return DataInputStream.readUTF(this);
+    }
+  }
+
+  /**
+   * A DestreamerIS for messages from a member running an older version of the product.
+   */
+  private static class VersionedDestreamerIS extends DestreamerIS implements VersionedDataStream {
+    private final KnownVersion version;
+
+    VersionedDestreamerIS(DestreamerThread t, CancelCriterion stopper, KnownVersion version) {
+      super(t, stopper);
+      this.version = version;
+    }
+
+    @Override
+    public KnownVersion getVersion() {
+      return version;
+    }
+
   }
 
   private static LogWriter getLogger() {
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.DistributionMessage;
+import org.apache.geode.internal.net.BufferPool;
+
+/**
+ * Combines messages sent concurrently on a shared {@link Connection} into fewer socket writes.
+ * <p>
+ * The first thread to send becomes the writer and writes its own message directly. Threads that
+ * send while a write is in progress copy their message into a pending buffer and wait. Before
+ * giving up the writer role the writer sends everything that is pending with a single write, so a
+ * sender that had to wait for the socket anyway gets its message on the wire in one system call
+ * shared with every other waiting sender. Messages that become pending during that write are
+ * written by one of their own senders, so no send is held up for long under sustained load. No
+ * delay is added when a connection is not contended.
+ * <p>
+ * A send returns only once its bytes have been written, and fails if the write carrying them
+ * failed, just as if the sender had written them itself. The combined buffer is handed to the
+ * writer together with the message and size of each part, so a connection that queues its
+ * outgoing messages can still queue, and conflate, each of them on its own.
+ */
+class WriteCoalescer {
+
+  /**
+   * Performs the actual socket write of a buffer.
+   */
+  interface Writer {
+    void write(ByteBuffer buffer, DistributionMessage msg) throws IOException;
+
+    /**
+     * Writes a buffer holding the messages of several senders, which are the first {@code count}
+     * elements of {@code msgs}, each taking the matching number of bytes in {@code sizes}.
+     */
+    default void writeCombined(ByteBuffer buffer, DistributionMessage[] msgs, int[] sizes,
+        int count) throws IOException {
+      write(buffer, null);
+    }
+  }
+
+  private final DMStats stats;
+
+  private ByteBuffer pendingBuffer;
+
+  private ByteBuffer sendBuffer;
+
+  /** true while some thread owns the socket and is writing */
+  private boolean writing;
+
+  /** the number of threads waiting to write a message that does not fit in pendingBuffer */
+  private int waitingWriters;
+
+  /** the batch that the messages copied into pendingBuffer will be written as */
+  private Batch pendingBatch = new Batch();
+
+  WriteCoalescer(int maxBytes, DMStats stats) {
+    this.stats = stats;
+    if (BufferPool.useDirectBuffers) {
+      pendingBuffer = ByteBuffer.allocateDirect(maxBytes);
+      sendBuffer = ByteBuffer.allocateDirect(maxBytes);
+    } else {
+      pendingBuffer = ByteBuffer.allocate(maxBytes);
+      sendBuffer = ByteBuffer.allocate(maxBytes);
+    }
+  }
+
+  /**
+   * Writes the remaining bytes of the given buffer using the given writer, either directly or
+   * combined with the messages of other senders.
+   */
+  void write(ByteBuffer buffer, DistributionMessage msg, Writer writer) throws IOException {
+    synchronized (this) {
+      if (writing && buffer.remaining() <= pendingBuffer.remaining()) {
+        Batch batch = pendingBatch;
+        batch.add(msg, buffer.remaining());
+        pendingBuffer.put(buffer);
+        if (!awaitCompletionOrWriterRole(batch)) {
+          return;
+        }
+        // the previous writer handed the writer role over to write the batch holding our message
+        buffer = null;
+      } else {
+        boolean interrupted = false;
+        waitingWriters++;
+        try {
+          while (writing) {
+            try {
+              wait();
+            } catch (InterruptedException e) {
+              interrupted = true;
+            }
+          }
+        } finally {
+          waitingWriters--;
+          if (interrupted) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        writing = true;
+      }
+    }
+
+    try {
+      if (buffer != null) {
+        writer.write(buffer, msg);
+      }
+      writePending(writer);
+    } catch (IOException | RuntimeException | Error e) {
+      synchronized (this) {
+        // no writer is left to send the pending messages
+        if (pendingBatch.messages > 0) {
+          pendingBuffer.clear();
+          complete(e);
+        }
+        writing = false;
+        notifyAll();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the messages pending when called with a single write. Messages that become pending
+   * during that write are left to another thread, so a sender never writes more than one batch of
+   * other senders' messages however long the connection stays contended: the writer role goes to
+   * a thread waiting to write a message too large to be combined if there is one, or else to one
+   * of the senders of the next batch.
+   */
+  private void writePending(Writer writer) throws IOException {
+    final Batch batch;
+    synchronized (this) {
+      if (pendingBatch.messages == 0) {
+        writing = false;
+        notifyAll();
+        return;
+      }
+      ByteBuffer tmp = sendBuffer;
+      sendBuffer = pendingBuffer;
+      pendingBuffer = tmp;
+      batch = pendingBatch;
+      pendingBatch = new Batch();
+    }
+    sendBuffer.flip();
+    final int bytes = sendBuffer.remaining();
+    try {
+      writer.writeCombined(sendBuffer, batch.msgs, batch.sizes, batch.messages);
+    } catch (IOException | RuntimeException | Error e) {
+      synchronized (this) {
+        batch.complete(e);
+        notifyAll();
+      }
+      throw e;
+    } finally {
+      sendBuffer.clear();
+    }
+    stats.incCoalescedWrites(batch.messages, bytes);
+    synchronized (this) {
+      batch.complete(null);
+      if (pendingBatch.messages > 0 && waitingWriters == 0) {
+        pendingBatch.needsWriter = true;
+      } else {
+        writing = false;
+      }
+      notifyAll();
+    }
+  }
+
+  private void complete(Throwable failure) {
+    pendingBatch.complete(failure);
+    pendingBatch = new Batch();
+  }
+
+  /**
+   * Waits for the given batch to be written, unless the writer role is handed over to write it.
+   *
+   * @return true if the calling thread has become the writer and must write the batch
+   */
+  private boolean awaitCompletionOrWriterRole(Batch batch) throws IOException {
+    boolean interrupted = false;
+    try {
+      while (!batch.completed) {
+        if (batch.needsWriter) {
+          batch.needsWriter = false;
+          return true;
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          // the message has already been handed off so wait for its write to complete
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (batch.failure instanceof ConnectionException) {
+      throw new ConnectionException("Coalesced write failed", batch.failure);
+    } else if (batch.failure != null) {
+      throw new IOException("Coalesced write failed", batch.failure);
+    }
+    return false;
+  }
+
+  /**
+   * The messages written together by a single write. Guarded by the WriteCoalescer's monitor.
+   */
+  private static class Batch {
+    private int messages;
+    private DistributionMessage[] msgs = new DistributionMessage[8];
+    private int[] sizes = new int[8];
+    /** true once the previous writer has left this batch to one of its senders */
+    private boolean needsWriter;
+    private boolean completed;
+    private Throwable failure;
+
+    void add(DistributionMessage msg, int size) {
+      if (messages == msgs.length) {
+        msgs = Arrays.copyOf(msgs, messages * 2);
+        sizes = Arrays.copyOf(sizes, messages * 2);
+      }
+      msgs[messages] = msg;
+      sizes[messages] = size;
+      messages++;
+    }
+
+    void complete(Throwable failure) {
+      this.failure = failure;
+      this.completed = true;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int getPendingMessages() {
+    return pendingBatch.messages;
+  }
+}
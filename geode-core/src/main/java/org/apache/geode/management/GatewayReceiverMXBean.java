@@ -211,4 +211,26 @@ public interface GatewayReceiverMXBean {
    */
   long getAverageBatchProcessingTime();
 
+  /**
+   * Returns an estimate of the 99th percentile of the time, in milliseconds, this gateway receiver
+   * spent applying the batches it received since this attribute was last read.
+   */
+  long getBatchApplyLatency99thPercentile();
+
+  /**
+   * Returns an estimate of the median of the time, in milliseconds, between an event being
+   * modified on the remote site and its arrival at this gateway receiver, for the events received
+   * since this attribute was last read. It includes any difference between the clocks of the two
+   * sites.
+   */
+  long getEventReceiveLagMedian();
+
+  /**
+   * Returns an estimate of the 99th percentile of the time, in milliseconds, between an event being
+   * modified on the remote site and its arrival at this gateway receiver, for the events received
+   * since this attribute was last read. It includes any difference between the clocks of the two
+   * sites.
+   */
+  long getEventReceiveLag99thPercentile();
+
 }
@@ -192,6 +192,33 @@ public interface GatewaySenderMXBean {
    */
   long getTotalQueueSizeBytesInUse();
 
+  /**
+   * Returns an estimate of the 99th percentile of the time, in milliseconds, that events wait in
+   * the queue before they are sent, for the events sent since this attribute was last read.
+   */
+  long getQueueLatency99thPercentile();
+
+  /**
+   * Returns an estimate of the 99th percentile of the time, in milliseconds, between sending a
+   * batch of events and receiving its acknowledgement from the remote site, including the time the
+   * remote site spent applying it, for the batches acknowledged since this attribute was last read.
+   */
+  long getBatchAcknowledgementLatency99thPercentile();
+
+  /**
+   * Returns an estimate of the median of the time, in milliseconds, between an event being created
+   * and its acknowledgement from the remote site, for the events acknowledged since this attribute
+   * was last read.
+   */
+  long getReplicationLagMedian();
+
+  /**
+   * Returns an estimate of the 99th percentile of the time, in milliseconds, between an event being
+   * created and its acknowledgement from the remote site, for the events acknowledged since this
+   * attribute was last read.
+   */
+  long getReplicationLag99thPercentile();
+
   /**
    * Starts this GatewaySender. Once the GatewaySender is running its configuration cannot be
    * changed.
@@ -207,4 +207,19 @@ public class GatewayReceiverMBean extends NotificationBroadcasterSupport
     return bridge.getAverageBatchProcessingTime();
   }
 
+  @Override
+  public long getBatchApplyLatency99thPercentile() {
+    return bridge.getBatchApplyLatency99thPercentile();
+  }
+
+  @Override
+  public long getEventReceiveLagMedian() {
+    return bridge.getEventReceiveLagMedian();
+  }
+
+  @Override
+  public long getEventReceiveLag99thPercentile() {
+    return bridge.getEventReceiveLag99thPercentile();
+  }
+
 }
@@ -27,6 +27,7 @@ import org.apache.geode.internal.cache.wan.GatewayReceiverStats;
 import org.apache.geode.management.internal.ManagementConstants;
 import org.apache.geode.management.internal.beans.stats.StatType;
 import org.apache.geode.management.internal.beans.stats.StatsKey;
+import org.apache.geode.management.internal.beans.stats.StatsPercentile;
 import org.apache.geode.management.internal.beans.stats.StatsRate;
 
 public class GatewayReceiverMBeanBridge extends ServerBridge {
@@ -37,6 +38,9 @@ public class GatewayReceiverMBeanBridge extends ServerBridge {
   private StatsRate updateRequestRate;
   private StatsRate destroyRequestRate;
   private StatsRate eventsReceivedRate;
+  private StatsPercentile batchApplyLatency99thPercentile;
+  private StatsPercentile eventReceiveLagMedian;
+  private StatsPercentile eventReceiveLag99thPercentile;
 
   @VisibleForTesting
   public GatewayReceiverMBeanBridge(GatewayReceiver gatewayReceiver) {
@@ -175,11 +179,27 @@ public class GatewayReceiverMBeanBridge extends ServerBridge {
     return 0;
   }
 
+  long getBatchApplyLatency99thPercentile() {
+    return batchApplyLatency99thPercentile.getPercentile();
+  }
+
+  long getEventReceiveLagMedian() {
+    return eventReceiveLagMedian.getPercentile();
+  }
+
+  long getEventReceiveLag99thPercentile() {
+    return eventReceiveLag99thPercentile.getPercentile();
+  }
+
   private void initializeReceiverStats() {
     createRequestRate = new StatsRate(StatsKey.CREAT_REQUESTS, StatType.INT_TYPE, monitor);
     updateRequestRate = new StatsRate(StatsKey.UPDATE_REQUESTS, StatType.INT_TYPE, monitor);
     destroyRequestRate = new StatsRate(StatsKey.DESTROY_REQUESTS, StatType.INT_TYPE, monitor);
     eventsReceivedRate = new StatsRate(StatsKey.EVENTS_RECEIVED, StatType.INT_TYPE, monitor);
+    batchApplyLatency99thPercentile =
+        new StatsPercentile(StatsKey.BATCH_APPLY_LATENCY, 99, monitor);
+    eventReceiveLagMedian = new StatsPercentile(StatsKey.EVENT_RECEIVE_LAG, 50, monitor);
+    eventReceiveLag99thPercentile = new StatsPercentile(StatsKey.EVENT_RECEIVE_LAG, 99, monitor);
   }
 
   private InternalCacheServer getReceiverServer() {
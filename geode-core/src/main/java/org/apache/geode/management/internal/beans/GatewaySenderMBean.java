@@ -148,6 +148,26 @@ public class GatewaySenderMBean extends NotificationBroadcasterSupport
     return bridge.getTotalQueueSizeBytesInUse();
   }
 
+  @Override
+  public long getQueueLatency99thPercentile() {
+    return bridge.getQueueLatency99thPercentile();
+  }
+
+  @Override
+  public long getBatchAcknowledgementLatency99thPercentile() {
+    return bridge.getBatchAcknowledgementLatency99thPercentile();
+  }
+
+  @Override
+  public long getReplicationLagMedian() {
+    return bridge.getReplicationLagMedian();
+  }
+
+  @Override
+  public long getReplicationLag99thPercentile() {
+    return bridge.getReplicationLag99thPercentile();
+  }
+
   @Override
   public boolean isBatchConflationEnabled() {
     return bridge.isBatchConflationEnabled();
@@ -33,6 +33,7 @@ import org.apache.geode.management.internal.beans.stats.MBeanStatsMonitor;
 import org.apache.geode.management.internal.beans.stats.StatType;
 import org.apache.geode.management.internal.beans.stats.StatsAverageLatency;
 import org.apache.geode.management.internal.beans.stats.StatsKey;
+import org.apache.geode.management.internal.beans.stats.StatsPercentile;
 import org.apache.geode.management.internal.beans.stats.StatsRate;
 
 public class GatewaySenderMBeanBridge {
@@ -53,6 +54,14 @@ public class GatewaySenderMBeanBridge {
 
   private StatsAverageLatency batchDistributionAvgLatency;
 
+  private StatsPercentile queueLatency99thPercentile;
+
+  private StatsPercentile batchAckLatency99thPercentile;
+
+  private StatsPercentile replicationLagMedian;
+
+  private StatsPercentile replicationLag99thPercentile;
+
   private GatewaySenderEventDispatcher dispatcher;
 
   private AbstractGatewaySender abstractSender;
@@ -110,6 +119,14 @@ public class GatewaySenderMBeanBridge {
             StatsKey.GATEWAYSENDER_BATCHES_DISTRIBUTE_TIME, monitor);
     lruEvictionsRate =
         new StatsRate(StatsKey.GATEWAYSENDER_LRU_EVICTIONS, StatType.LONG_TYPE, overflowMonitor);
+    queueLatency99thPercentile =
+        new StatsPercentile(StatsKey.GATEWAYSENDER_EVENT_QUEUE_LATENCY, 99, monitor);
+    batchAckLatency99thPercentile =
+        new StatsPercentile(StatsKey.GATEWAYSENDER_BATCH_ACK_LATENCY, 99, monitor);
+    replicationLagMedian =
+        new StatsPercentile(StatsKey.GATEWAYSENDER_EVENT_REPLICATION_LAG, 50, monitor);
+    replicationLag99thPercentile =
+        new StatsPercentile(StatsKey.GATEWAYSENDER_EVENT_REPLICATION_LAG, 99, monitor);
   }
 
   public int getAlertThreshold() {
@@ -309,6 +326,22 @@ public class GatewaySenderMBeanBridge {
         .longValue();
   }
 
+  public long getQueueLatency99thPercentile() {
+    return queueLatency99thPercentile.getPercentile();
+  }
+
+  public long getBatchAcknowledgementLatency99thPercentile() {
+    return batchAckLatency99thPercentile.getPercentile();
+  }
+
+  public long getReplicationLagMedian() {
+    return replicationLagMedian.getPercentile();
+  }
+
+  public long getReplicationLag99thPercentile() {
+    return replicationLag99thPercentile.getPercentile();
+  }
+
 
   private Number getStatistic(String statName) {
     if (monitor != null) {
@@ -294,6 +294,8 @@ public class StatsKey {
   public static final String EXCEPTIONS_OCCURRED = "exceptionsOccurred";
   public static final String BATCH_PROCESS_TIME = "processBatchTime";
   public static final String TOTAL_BATCHES = "processBatchRequests";
+  public static final String BATCH_APPLY_LATENCY = "batchApplyLatency";
+  public static final String EVENT_RECEIVE_LAG = "eventReceiveLag";
 
   /** Gateway Sender Stats **/
 
@@ -313,6 +315,10 @@ public class StatsKey {
 
   public static final String GATEWAYSENDER_BYTES_IN_MEMORY = "byteCount";
 
+  public static final String GATEWAYSENDER_EVENT_QUEUE_LATENCY = "eventQueueLatency";
+  public static final String GATEWAYSENDER_BATCH_ACK_LATENCY = "batchAckLatency";
+  public static final String GATEWAYSENDER_EVENT_REPLICATION_LAG = "eventReplicationLag";
+
   /** AsyncEventQueue Stats **/
   public static final String ASYNCEVENTQUEUE_EVENTS_QUEUE_SIZE = "eventQueueSize";
 
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.management.internal.beans.stats;
+
+import org.apache.geode.internal.statistics.LatencyHistogram;
+
+/**
+ * Estimates a percentile of a {@link LatencyHistogram} over the latencies recorded since the
+ * previous call, from the increase of each bucket counter between the two calls, like
+ * {@link StatsRate} does for a single counter. A percentile over everything recorded since the
+ * statistics were created would hardly move when the latencies change.
+ */
+public class StatsPercentile {
+
+  private final String[] bucketKeys;
+
+  private final long[] prevCounters;
+
+  private final double percentile;
+
+  private final MBeanStatsMonitor monitor;
+
+  /**
+   * @param histogramKey the name the histogram's descriptors were created with
+   * @param percentile the percentile to estimate, between 0 and 100
+   */
+  public StatsPercentile(String histogramKey, double percentile, MBeanStatsMonitor monitor) {
+    this.bucketKeys = LatencyHistogram.getBucketNames(histogramKey);
+    this.prevCounters = new long[bucketKeys.length];
+    this.percentile = percentile;
+    this.monitor = monitor;
+  }
+
+  /**
+   * Returns the estimated percentile, in milliseconds, of the latencies recorded since the previous
+   * call, or 0 if none were recorded.
+   */
+  public synchronized long getPercentile() {
+    long[] bucketCounts = new long[bucketKeys.length];
+    for (int i = 0; i < bucketKeys.length; i++) {
+      long currentCounter = monitor.getStatistic(bucketKeys[i]).longValue();
+      // the counters start over if the monitored statistics are replaced
+      bucketCounts[i] = Math.max(0, currentCounter - prevCounters[i]);
+      prevCounters[i] = currentCounter;
+    }
+    return LatencyHistogram.getPercentileMillis(bucketCounts, percentile);
+  }
+}
@@ -1990,8 +1990,9 @@ public class AutoSerializableManager {
    * @return <code>true</code> if the object was serialized, <code>false</code> otherwise
    */
   public boolean writeData(PdxWriter writer, Object obj) {
-    if (isRelevant(obj.getClass())) {
-      writeData(writer, obj, getClassInfo(obj.getClass()));
+    Class<?> clazz = obj.getClass();
+    if (isRelevant(clazz)) {
+      writeData(writer, obj, getClassInfo(clazz));
       return true;
     }
     return false;
@@ -2028,13 +2029,11 @@ public class AutoSerializableManager {
         optimizeFieldWrites = true;
       }
     }
+    final Class<?> clazz = obj.getClass();
     for (PdxFieldWrapper f : autoClassInfo.getFields()) {
-      // System.out.println("DEBUG writing field=" + f.getField().getName() + " offset=" +
-      // ((PdxWriterImpl)writer).position());
       if (f.transform()) {
         try {
-          Object newValue =
-              getOwner().writeTransform(f.getField(), obj.getClass(), f.getObject(obj));
+          Object newValue = getOwner().writeTransform(f.getField(), clazz, f.getObject(obj));
           f.serializeValue(w, newValue, optimizeFieldWrites);
         } catch (Exception ex) {
           f.handleException(true, obj, ex);
@@ -2175,6 +2174,15 @@ public class AutoSerializableManager {
      */
     private final Set<Integer> mismatchingPdxIds = new CopyOnWriteArraySet<Integer>();
 
+    /**
+     * The id of the pdxType most recently found to match our class, so that repeated reads of the
+     * same type neither box the id nor search the matching set. NO_MATCHING_PDX_ID until a type
+     * has matched.
+     */
+    private volatile long lastMatchingPdxId = NO_MATCHING_PDX_ID;
+
+    private static final long NO_MATCHING_PDX_ID = Long.MIN_VALUE;
+
     /**
      * The PdxType created by the first serialization by the auto serializer.
      */
@@ -2232,13 +2240,19 @@ public class AutoSerializableManager {
     }
 
     public boolean matchesPdxType(PdxType t) {
-      Integer pdxTypeId = Integer.valueOf(t.getTypeId());
+      int typeId = t.getTypeId();
+      if (typeId == this.lastMatchingPdxId) {
+        return true;
+      }
+      Integer pdxTypeId = Integer.valueOf(typeId);
       if (this.matchingPdxIds.contains(pdxTypeId)) {
+        this.lastMatchingPdxId = typeId;
         return true;
       } else if (this.mismatchingPdxIds.contains(pdxTypeId)) {
         return false;
       } else if (checkForMatch(t)) {
         this.matchingPdxIds.add(pdxTypeId);
+        this.lastMatchingPdxId = typeId;
         return true;
       } else {
         this.mismatchingPdxIds.add(pdxTypeId);
@@ -42,4 +42,18 @@ public interface InternalPdxInstance extends PdxInstance, ConvertableToBytes, Se
   default Object getRawField(String fieldName) {
     return getField(fieldName);
   }
+
+  /**
+   * The same as calling getRawField(fieldName) if hasField(fieldName) is true; otherwise returns
+   * notFound. Implementors can override this to resolve the field only once, which matters to
+   * query evaluation since it reads the same fields from every value it visits.
+   *
+   * @throws PdxSerializationException if the field could not be deserialized
+   */
+  default Object getRawFieldIfPresent(String fieldName, Object notFound) {
+    if (!hasField(fieldName)) {
+      return notFound;
+    }
+    return getRawField(fieldName);
+  }
 }
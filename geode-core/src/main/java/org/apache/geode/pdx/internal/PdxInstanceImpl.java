@@ -470,7 +470,7 @@ public class PdxInstanceImpl extends PdxReaderImpl implements InternalPdxInstanc
       result.append(fieldType.getFieldName());
       result.append("=");
       try {
-        final Object value = ur.readField(fieldType.getFieldName());
+        final Object value = ur.readField(fieldType);
         if (value instanceof byte[]) {
           result.append(Hex.toHex((byte[]) value));
         } else if (value.getClass().isArray()) {
@@ -620,6 +620,11 @@ public class PdxInstanceImpl extends PdxReaderImpl implements InternalPdxInstanc
     return super.readField(fieldName);
   }
 
+  @Override
+  public synchronized Object readField(PdxField ft) {
+    return super.readField(ft);
+  }
+
   @Override
   protected synchronized Object basicGetObject() {
     DMStats stats = InternalDataSerializer.getDMStats(null);
@@ -662,6 +667,16 @@ public class PdxInstanceImpl extends PdxReaderImpl implements InternalPdxInstanc
     return getUnmodifiableReader(fieldName).readRawField(fieldName);
   }
 
+  @Override
+  public Object getRawFieldIfPresent(String fieldName, Object notFound) {
+    PdxReaderImpl ur = getUnmodifiableReader(fieldName);
+    PdxField ft = ur.getPdxField(fieldName);
+    if (ft == null) {
+      return notFound;
+    }
+    return ur.readRawField(ft);
+  }
+
   @Override
   public boolean isDeserializable() {
     if (this.getClassName().equals(JSONFormatter.JSON_CLASSNAME)) {
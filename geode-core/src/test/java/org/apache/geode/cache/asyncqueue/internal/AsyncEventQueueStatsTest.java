@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.asyncqueue.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.internal.statistics.StatisticsClock;
+import org.apache.geode.internal.statistics.StatisticsManager;
+import org.apache.geode.internal.statistics.StripedStatisticsImpl;
+
+/**
+ * Unit tests for {@link AsyncEventQueueStats}.
+ */
+public class AsyncEventQueueStatsTest {
+
+  private static final String TEXT_ID = "asyncEventQueueStats-queue";
+
+  private Statistics statistics;
+  private StatisticsClock statisticsClock;
+  private AsyncEventQueueStats asyncEventQueueStats;
+
+  @Before
+  public void setUp() {
+    StatisticsManager statisticsManager = mock(StatisticsManager.class);
+    StatisticsFactory statisticsFactory = mock(StatisticsFactory.class);
+
+    statistics = new StripedStatisticsImpl(AsyncEventQueueStats.type, TEXT_ID, 1, 1,
+        statisticsManager);
+    statisticsClock = mock(StatisticsClock.class);
+
+    when(statisticsFactory.createAtomicStatistics(eq(AsyncEventQueueStats.type), eq(TEXT_ID)))
+        .thenReturn(statistics);
+
+    asyncEventQueueStats = new AsyncEventQueueStats(statisticsFactory, "queue", statisticsClock);
+  }
+
+  @Test
+  public void listenerInvocationIsTimedWithTheStatisticsClock() {
+    when(statisticsClock.isEnabled()).thenReturn(true);
+    when(statisticsClock.getTime()).thenReturn(MILLISECONDS.toNanos(3), MILLISECONDS.toNanos(8));
+
+    long start = asyncEventQueueStats.startListenerInvocation();
+    assertThat(statistics.getLong("listenerInvocationsInProgress")).isEqualTo(1);
+    asyncEventQueueStats.endListenerInvocation(start);
+
+    assertThat(statistics.getLong("listenerInvocationsInProgress")).isZero();
+    assertThat(asyncEventQueueStats.getListenerInvocations()).isEqualTo(1);
+    assertThat(statistics.getLong("listenerInvocationTime")).isEqualTo(MILLISECONDS.toNanos(5));
+    assertThat(asyncEventQueueStats.getListenerLatencyPercentile(100)).isGreaterThanOrEqualTo(5);
+  }
+
+  @Test
+  public void listenerInvocationIsCountedButNotTimedWhileTheClockIsDisabled() {
+    when(statisticsClock.isEnabled()).thenReturn(false);
+
+    asyncEventQueueStats.endListenerInvocation(asyncEventQueueStats.startListenerInvocation());
+
+    assertThat(asyncEventQueueStats.getListenerInvocations()).isEqualTo(1);
+    assertThat(statistics.getLong("listenerInvocationTime")).isZero();
+    assertThat(asyncEventQueueStats.getListenerLatencyPercentile(100)).isZero();
+  }
+}
@@ -16,16 +16,21 @@ package org.apache.geode.cache.client.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -98,4 +103,67 @@ public class GetAllOpJUnitTest {
     Mockito.verify(pool, times(0)).execute(any());
   }
 
+  @Test
+  public void constructGetAllTasksSplitsServerKeysIntoChunks() {
+    Map<ServerLocation, Set> serverToFilterMap = new HashMap<>();
+    serverToFilterMap.put(new ServerLocation("localhost", 12345), new HashSet(keys));
+
+    List<SingleHopOperationCallable> tasks =
+        GetAllOp.constructGetAllTasks("/testRegion", serverToFilterMap, (PoolImpl) pool, null, 4);
+
+    assertThat(tasks).hasSize(3);
+    List<Object> chunkedKeys = new ArrayList<>();
+    for (SingleHopOperationCallable task : tasks) {
+      List taskKeys = ((GetAllOp.GetAllOpImpl) task.getOperation()).getKeyList();
+      assertThat(taskKeys.size()).isLessThanOrEqualTo(4);
+      chunkedKeys.addAll(taskKeys);
+    }
+    assertThat(chunkedKeys).containsExactlyInAnyOrderElementsOf(keys);
+  }
+
+  @Test
+  public void submitGetAllRunsOneTaskPerServerAtATimeAndHandsOverEachResult() {
+    ServerLocation server1 = new ServerLocation("localhost", 12345);
+    ServerLocation server2 = new ServerLocation("localhost", 12346);
+    Map<ServerLocation, Set> serverToFilterMap = new HashMap<>();
+    serverToFilterMap.put(server1, new HashSet(keys));
+    serverToFilterMap.put(server2, new HashSet(Arrays.asList(11, 12, 13, 14, 15, 16)));
+    Map<ServerLocation, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    when(((PoolImpl) pool).executeOn(any(ServerLocation.class), any(), anyBoolean(),
+        anyBoolean())).thenAnswer(invocation -> {
+          AtomicInteger serverInFlight = inFlight
+              .computeIfAbsent(invocation.getArgument(0), k -> new AtomicInteger());
+          maxInFlight.accumulateAndGet(serverInFlight.incrementAndGet(), Math::max);
+          Thread.sleep(10);
+          serverInFlight.decrementAndGet();
+          return new VersionedObjectList();
+        });
+    List<SingleHopOperationCallable> tasks =
+        GetAllOp.constructGetAllTasks("/testRegion", serverToFilterMap, (PoolImpl) pool, null, 2);
+    List<Object> handedOverKeys = new ArrayList<>();
+
+    SingleHopClientExecutor.submitGetAll(tasks, cache.getClientMetadataService(), region,
+        (task, result) -> {
+          assertThat(result).isInstanceOf(VersionedObjectList.class);
+          handedOverKeys.addAll(((GetAllOp.GetAllOpImpl) task.getOperation()).getKeyList());
+        });
+
+    assertThat(maxInFlight.get()).isEqualTo(1);
+    assertThat(handedOverKeys).hasSize(16);
+  }
+
+  @Test
+  public void constructGetAllTasksCreatesOneTaskPerServerWithoutChunkSize() {
+    Map<ServerLocation, Set> serverToFilterMap = new HashMap<>();
+    serverToFilterMap.put(new ServerLocation("localhost", 12345), new HashSet(keys));
+
+    List<SingleHopOperationCallable> tasks =
+        GetAllOp.constructGetAllTasks("/testRegion", serverToFilterMap, (PoolImpl) pool, null, 0);
+
+    assertThat(tasks).hasSize(1);
+    assertThat(((GetAllOp.GetAllOpImpl) tasks.get(0).getOperation()).getKeyList())
+        .containsExactlyInAnyOrderElementsOf(keys);
+  }
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AvgBucketNodeCombinerTest {
+  private AvgBucketNodeCombiner avgBucketNodeCombiner;
+
+  @Before
+  public void setUp() {
+    avgBucketNodeCombiner = new AvgBucketNodeCombiner();
+  }
+
+  @Test
+  public void accumulateShouldComputeIntermediateAdditions() {
+    avgBucketNodeCombiner.accumulate(new Object[] {2L, 10});
+    avgBucketNodeCombiner.accumulate(new Object[] {3L, 15.5f});
+
+    assertThat(avgBucketNodeCombiner.getCount()).isEqualTo(5);
+    assertThat(avgBucketNodeCombiner.getResult()).isEqualTo(25.5);
+  }
+
+  @Test
+  public void terminateShouldReturnCombinedCountAndSum() {
+    AvgBucketNode firstBucket = new AvgBucketNode();
+    firstBucket.accumulate(1);
+    firstBucket.accumulate(2);
+    AvgBucketNode secondBucket = new AvgBucketNode();
+    secondBucket.accumulate(3);
+    secondBucket.accumulate(4);
+    secondBucket.accumulate(5);
+
+    avgBucketNodeCombiner.accumulate(firstBucket.terminate());
+    avgBucketNodeCombiner.accumulate(secondBucket.terminate());
+
+    Object result = avgBucketNodeCombiner.terminate();
+    assertThat(result).isInstanceOf(Object[].class);
+    assertThat(((Long) ((Object[]) result)[0]).intValue()).isEqualTo(5);
+    assertThat(((Number) ((Object[]) result)[1]).intValue()).isEqualTo(15);
+
+    AvgPRQueryNode avgPRQueryNode = new AvgPRQueryNode();
+    avgPRQueryNode.accumulate(result);
+    assertThat(((Number) avgPRQueryNode.terminate()).intValue()).isEqualTo(3);
+  }
+}
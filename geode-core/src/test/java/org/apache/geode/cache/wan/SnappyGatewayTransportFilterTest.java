@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.wan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.WanTest;
+
+@Category({WanTest.class})
+public class SnappyGatewayTransportFilterTest {
+
+  private final SnappyGatewayTransportFilter filter = new SnappyGatewayTransportFilter();
+
+  @Test
+  public void eachFlushedMessageCanBeReadBeforeTheNextIsWritten() throws IOException {
+    byte[] first = repeated("region=/orders member=server-1 ", 200);
+    byte[] second = repeated("region=/customers member=server-2 ", 50);
+    ByteArrayOutputStream wire = new ByteArrayOutputStream();
+    OutputStream out = filter.getOutputStream(wire);
+
+    out.write(first);
+    out.flush();
+    int firstMessageEnd = wire.size();
+    out.write(second);
+    out.flush();
+
+    DataInputStream in = new DataInputStream(
+        filter.getInputStream(new ByteArrayInputStream(wire.toByteArray(), 0, firstMessageEnd)));
+    byte[] read = new byte[first.length];
+    in.readFully(read);
+    assertThat(read).isEqualTo(first);
+
+    in = new DataInputStream(filter.getInputStream(new ByteArrayInputStream(wire.toByteArray())));
+    in.readFully(new byte[first.length]);
+    read = new byte[second.length];
+    in.readFully(read);
+    assertThat(read).isEqualTo(second);
+  }
+
+  @Test
+  public void compressesRepeatedMetadata() throws IOException {
+    byte[] batch = repeated("region=/orders member=server-1 ", 1000);
+    ByteArrayOutputStream wire = new ByteArrayOutputStream();
+    OutputStream out = filter.getOutputStream(wire);
+
+    out.write(batch);
+    out.flush();
+
+    assertThat(wire.size()).isLessThan(batch.length / 4);
+  }
+
+  @Test
+  public void getInputStreamDoesNotReadUntilFirstRead() {
+    InputStream notReadable = new InputStream() {
+      @Override
+      public int read() {
+        throw new AssertionError("stream header read too early");
+      }
+    };
+
+    assertThat(filter.getInputStream(notReadable)).isNotNull();
+  }
+
+  @Test
+  public void filtersAreEqualByClass() {
+    assertThat(filter).isEqualTo(new SnappyGatewayTransportFilter())
+        .hasSameHashCodeAs(new SnappyGatewayTransportFilter());
+  }
+
+  private static byte[] repeated(String text, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      builder.append(text).append(i % 10);
+    }
+    return builder.toString().getBytes(UTF_8);
+  }
+}
@@ -67,4 +67,18 @@ public class DistributionStatsTest {
     verify(mockStats).incLong(DistributionStats.serialQueueBytesId, 50000000);
     verify(mockStats).incLong(DistributionStats.serialQueueBytesId, 20000000);
   }
+
+  @Test
+  public void incAsyncConflatedBytes() {
+    distributionStats.incAsyncConflatedBytes(1024);
+
+    verify(mockStats).incLong(DistributionStats.asyncConflatedBytesId, 1024);
+  }
+
+  @Test
+  public void incAsyncQueueCompactions() {
+    distributionStats.incAsyncQueueCompactions();
+
+    verify(mockStats).incLong(DistributionStats.asyncQueueCompactionsId, 1);
+  }
 }
@@ -16,6 +16,7 @@ package org.apache.geode.distributed.internal;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -286,6 +287,31 @@ public class LocatorLoadSnapshotJUnitTest {
         sn.getServersForQueue(null, excludeAll, 3));
   }
 
+  /**
+   * Test that with power of two choices enabled the less loaded of two servers is chosen and
+   * excluded servers are never chosen.
+   */
+  @Test
+  public void testPowerOfTwoChoices() {
+    final LocatorLoadSnapshot sn = new LocatorLoadSnapshot(true);
+    final ServerLocation l1 = new ServerLocation("localhost", 1);
+    final ServerLocation l2 = new ServerLocation("localhost", 2);
+    final ServerLocation l3 = new ServerLocation("localhost", 3);
+    final String uniqueId1 = new InternalDistributedMember("localhost", 1).getUniqueId();
+    final String uniqueId2 = new InternalDistributedMember("localhost", 2).getUniqueId();
+    final String uniqueId3 = new InternalDistributedMember("localhost", 3).getUniqueId();
+    sn.addServer(l1, uniqueId1, new String[0], new ServerLoad(1, 1, 1, 1), LOAD_POLL_INTERVAL);
+    sn.addServer(l2, uniqueId2, new String[0], new ServerLoad(100, 1, 1, 1), LOAD_POLL_INTERVAL);
+    sn.addServer(l3, uniqueId3, new String[0], new ServerLoad(200, 1, 1, 1), LOAD_POLL_INTERVAL);
+
+    assertEquals(l1, sn.getServerForConnection(null, Collections.singleton(l3)));
+    assertEquals(l2, sn.getServerForConnection(null, new HashSet<>(Arrays.asList(l1, l3))));
+    assertNull(sn.getServerForConnection(null, new HashSet<>(Arrays.asList(l1, l2, l3))));
+    for (int i = 0; i < 10; i++) {
+      assertNotEquals(l3, sn.getServerForConnection(null, Collections.EMPTY_SET));
+    }
+  }
+
   @Test
   public void testAreBalanced() {
     final LocatorLoadSnapshot sn = new LocatorLoadSnapshot();
@@ -14,6 +14,7 @@
  */
 package org.apache.geode.distributed.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
@@ -27,12 +28,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import org.apache.geode.CancelCriterion;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.util.concurrent.StoppableCountDownLatch;
 import org.apache.geode.test.junit.categories.MembershipTest;
 
 @Category({MembershipTest.class})
@@ -86,4 +89,26 @@ public class ReplyProcessor21Test {
     verify(mockReplyProcessor21, times(1)).waitForRepliesUninterruptibly();
     verify(mockReplyProcessor21, times(1)).finished();
   }
+
+  @Test
+  public void spinWaitReturnsOnceLatchIsReleased() {
+    StoppableCountDownLatch latch = new StoppableCountDownLatch(mock(CancelCriterion.class), 1);
+    latch.countDown();
+
+    long start = System.nanoTime();
+    ReplyProcessor21.spinWait(latch, TimeUnit.MINUTES.toNanos(1));
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(10));
+  }
+
+  @Test
+  public void spinWaitGivesUpAfterTimeout() {
+    StoppableCountDownLatch latch = new StoppableCountDownLatch(mock(CancelCriterion.class), 1);
+
+    long start = System.nanoTime();
+    ReplyProcessor21.spinWait(latch, TimeUnit.MILLISECONDS.toNanos(1));
+
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+    assertThat(latch.getCount()).isEqualTo(1);
+  }
 }
@@ -14,6 +14,7 @@
  */
 package org.apache.geode.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.mock;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.io.Serializable;
 import java.net.SocketException;
 import java.util.Properties;
 
@@ -34,11 +36,13 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
 import org.apache.geode.InternalGemFireException;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.examples.security.ExampleSecurityManager;
 import org.apache.geode.internal.serialization.DSCODE;
+import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.test.junit.categories.SerializationTest;
 
 /**
@@ -87,6 +91,55 @@ public class InternalDataSerializerJUnitTest {
         .isInstanceOf(SocketException.class);
   }
 
+  @Test
+  public void testSerializerLookupFollowsRegistration() throws IOException {
+    CachedLookupValue value = new CachedLookupValue();
+    assertThat(firstByteOf(value)).isNotEqualTo(DSCODE.USER_CLASS_4.toByte());
+
+    DataSerializer serializer =
+        InternalDataSerializer.register(CachedLookupValueDataSerializer.class, false);
+    try {
+      assertThat(firstByteOf(value)).isEqualTo(DSCODE.USER_CLASS_4.toByte());
+    } finally {
+      InternalDataSerializer.unregister(serializer.getId());
+    }
+
+    assertThat(firstByteOf(value)).isNotEqualTo(DSCODE.USER_CLASS_4.toByte());
+  }
+
+  private static byte firstByteOf(Object value) throws IOException {
+    HeapDataOutputStream out = new HeapDataOutputStream(KnownVersion.CURRENT);
+    DataSerializer.writeObject(value, out);
+    return out.toByteArray()[0];
+  }
+
+  public static class CachedLookupValue implements Serializable {
+  }
+
+  public static class CachedLookupValueDataSerializer extends DataSerializer {
+    public CachedLookupValueDataSerializer() {}
+
+    @Override
+    public Class<?>[] getSupportedClasses() {
+      return new Class<?>[] {CachedLookupValue.class};
+    }
+
+    @Override
+    public boolean toData(Object o, DataOutput out) {
+      return o instanceof CachedLookupValue;
+    }
+
+    @Override
+    public Object fromData(DataInput in) {
+      return new CachedLookupValue();
+    }
+
+    @Override
+    public int getId() {
+      return 38038038;
+    }
+  }
+
   class TestFunction implements Function {
     @Override
     public void execute(FunctionContext context) {
@@ -192,6 +192,54 @@ public class BucketRegionQueueJUnitTest {
     assertEquals(objects, Arrays.asList(new Object[] {event2, event4}));
   }
 
+  @Test
+  public void getEventsFromReadsEventsInKeyOrderWithoutRemovingThem()
+      throws Exception {
+    ParallelGatewaySenderHelper.createParallelGatewaySenderEventProcessor(this.sender);
+
+    GatewaySenderEventImpl event1 = createMockGatewaySenderEvent(1, null, false);
+    GatewaySenderEventImpl event2 = createMockGatewaySenderEvent(2, null, false);
+    GatewaySenderEventImpl event3 = createMockGatewaySenderEvent(3, null, false);
+    GatewaySenderEventImpl event4 = createMockGatewaySenderEvent(4, null, false);
+
+    this.bucketRegionQueue
+        .cleanUpDestroyedTokensAndMarkGIIComplete(InitialImageOperation.GIIStatus.NO_GII);
+
+    this.bucketRegionQueue.addToQueue(113L, event1);
+    this.bucketRegionQueue.addToQueue(226L, event2);
+    this.bucketRegionQueue.addToQueue(339L, event3);
+    this.bucketRegionQueue.addToQueue(452L, event4);
+
+    assertThat(this.bucketRegionQueue.getEventsFrom(200L, 2)).containsExactly(event2, event3);
+    assertThat(this.bucketRegionQueue.getEventsFrom(0L, 10)).containsExactly(event1, event2,
+        event3, event4);
+    assertThat(this.bucketRegionQueue.removeKeysBefore(339L)).containsExactly(113L, 226L);
+    assertThat(this.bucketRegionQueue.getEventsFrom(0L, 10)).containsExactly(event3, event4);
+  }
+
+  @Test
+  public void getEventsFromReadsKeysQueuedAfterTheFirstReadInKeyOrder()
+      throws Exception {
+    ParallelGatewaySenderHelper.createParallelGatewaySenderEventProcessor(this.sender);
+
+    GatewaySenderEventImpl event1 = createMockGatewaySenderEvent(1, null, false);
+    GatewaySenderEventImpl event2 = createMockGatewaySenderEvent(2, null, false);
+    GatewaySenderEventImpl event3 = createMockGatewaySenderEvent(3, null, false);
+
+    this.bucketRegionQueue
+        .cleanUpDestroyedTokensAndMarkGIIComplete(InitialImageOperation.GIIStatus.NO_GII);
+
+    this.bucketRegionQueue.addToQueue(339L, event3);
+    assertThat(this.bucketRegionQueue.getEventsFrom(0L, 10)).containsExactly(event3);
+
+    this.bucketRegionQueue.addToQueue(113L, event1);
+    this.bucketRegionQueue.addToQueue(226L, event2);
+
+    assertThat(this.bucketRegionQueue.getEventsFrom(100L, 10)).containsExactly(event1, event2,
+        event3);
+    assertThat(this.bucketRegionQueue.getEventsFrom(200L, 10)).containsExactly(event2, event3);
+  }
+
   @Test
   public void testPeekedElementsArePossibleDuplicate()
       throws Exception {
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -44,6 +45,7 @@ import org.apache.geode.CancelCriterion;
 import org.apache.geode.cache.EntryNotFoundException;
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.internal.InternalPool;
 import org.apache.geode.cache.client.internal.ServerRegionProxy;
 import org.apache.geode.cache.wan.GatewaySender;
 import org.apache.geode.internal.SystemTimer;
@@ -241,6 +243,23 @@ public class LocalRegionPartialMockTest {
     ccn.shutdown(111);
   }
 
+  @Test
+  public void recordClientCacheGetCountsHitsAndMissesOnThePoolStats() {
+    InternalPool pool = mock(InternalPool.class);
+    PoolStats poolStats = mock(PoolStats.class);
+    when(serverRegionProxy.getPool()).thenReturn(pool);
+    when(pool.getStats()).thenReturn(poolStats);
+    doCallRealMethod().when(region).recordClientCacheGet(true);
+    doCallRealMethod().when(region).recordClientCacheGet(false);
+
+    region.recordClientCacheGet(true);
+    region.recordClientCacheGet(false);
+    region.recordClientCacheGet(false);
+
+    verify(poolStats).incClientCacheMisses();
+    verify(poolStats, times(2)).incClientCacheHits();
+  }
+
   @Test
   public void testNotifyClientsOfTombstoneGC() {
 
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.internal.statistics.StatisticsManager;
+import org.apache.geode.internal.statistics.StripedStatisticsImpl;
+
+/**
+ * Unit tests for {@link PoolStats}.
+ */
+public class PoolStatsTest {
+
+  private static final String TEXT_ID = "poolStats";
+
+  private PoolStats poolStats;
+
+  @Before
+  public void setUp() {
+    StatisticsManager statisticsManager = mock(StatisticsManager.class);
+    StatisticsFactory statisticsFactory = mock(StatisticsFactory.class);
+    when(statisticsFactory.createAtomicStatistics(any(StatisticsType.class), eq(TEXT_ID)))
+        .thenAnswer(invocation -> new StripedStatisticsImpl(invocation.getArgument(0), TEXT_ID,
+            1, 1, statisticsManager));
+
+    poolStats = new PoolStats(statisticsFactory, TEXT_ID);
+  }
+
+  @Test
+  public void incClientCacheHitsIncrementsClientCacheHits() {
+    poolStats.incClientCacheHits();
+    poolStats.incClientCacheHits();
+
+    assertThat(poolStats.getClientCacheHits()).isEqualTo(2);
+    assertThat(poolStats.getClientCacheMisses()).isZero();
+  }
+
+  @Test
+  public void incClientCacheMissesIncrementsClientCacheMisses() {
+    poolStats.incClientCacheMisses();
+
+    assertThat(poolStats.getClientCacheMisses()).isEqualTo(1);
+    assertThat(poolStats.getClientCacheHits()).isZero();
+  }
+
+  @Test
+  public void incClientCacheInvalidatesIncrementsClientCacheInvalidates() {
+    poolStats.incClientCacheInvalidates();
+
+    assertThat(poolStats.getClientCacheInvalidates()).isEqualTo(1);
+    assertThat(poolStats.getClientCacheInvalidateStalenessSamples()).isZero();
+  }
+
+  @Test
+  public void incClientCacheInvalidateStalenessAccumulatesStalenessAndSamples() {
+    poolStats.incClientCacheInvalidateStaleness(5);
+    poolStats.incClientCacheInvalidateStaleness(7);
+
+    assertThat(poolStats.getClientCacheInvalidateStaleness()).isEqualTo(12);
+    assertThat(poolStats.getClientCacheInvalidateStalenessSamples()).isEqualTo(2);
+  }
+
+  @Test
+  public void incClientCacheInvalidateStalenessRecordsClockSkewAsZero() {
+    poolStats.incClientCacheInvalidateStaleness(-3);
+
+    assertThat(poolStats.getClientCacheInvalidateStaleness()).isZero();
+    assertThat(poolStats.getClientCacheInvalidateStalenessSamples()).isEqualTo(1);
+  }
+}
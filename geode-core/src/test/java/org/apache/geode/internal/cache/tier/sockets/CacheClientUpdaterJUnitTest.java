@@ -16,7 +16,9 @@ package org.apache.geode.internal.cache.tier.sockets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,7 +36,10 @@ import org.apache.geode.distributed.DistributedSystem;
 import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.distributed.internal.tcpserver.ClientSocketCreator;
 import org.apache.geode.distributed.internal.tcpserver.HostAndPort;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.PoolStats;
 import org.apache.geode.internal.cache.tier.ClientSideHandshake;
+import org.apache.geode.internal.cache.versions.VersionTag;
 import org.apache.geode.internal.net.SocketCreator;
 import org.apache.geode.test.junit.categories.ClientSubscriptionTest;
 
@@ -87,4 +92,28 @@ public class CacheClientUpdaterJUnitTest {
     // The endpoint should be reported as having crashed
     verify(endpointManager).serverCrashed(endpoint);
   }
+
+  @Test
+  public void recordClientCacheInvalidateRecordsStalenessOfVersionedInvalidates() {
+    PoolStats poolStats = mock(PoolStats.class);
+    LocalRegion region = mock(LocalRegion.class);
+    VersionTag versionTag = mock(VersionTag.class);
+    when(region.cacheTimeMillis()).thenReturn(1500L);
+    when(versionTag.getVersionTimeStamp()).thenReturn(1000L);
+
+    CacheClientUpdater.recordClientCacheInvalidate(poolStats, region, versionTag);
+
+    verify(poolStats).incClientCacheInvalidates();
+    verify(poolStats).incClientCacheInvalidateStaleness(500L);
+  }
+
+  @Test
+  public void recordClientCacheInvalidateOnlyCountsUnversionedInvalidates() {
+    PoolStats poolStats = mock(PoolStats.class);
+
+    CacheClientUpdater.recordClientCacheInvalidate(poolStats, mock(LocalRegion.class), null);
+
+    verify(poolStats).incClientCacheInvalidates();
+    verify(poolStats, never()).incClientCacheInvalidateStaleness(anyLong());
+  }
 }
@@ -28,8 +28,12 @@ import org.junit.Test;
 import org.apache.geode.CopyHelper;
 import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.distributed.DurableClientAttributes;
+import org.apache.geode.internal.cache.CachedDeserializableFactory;
 import org.apache.geode.internal.cache.EnumListenerEvent;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.InternalRegion;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.internal.statistics.StatisticsClock;
 import org.apache.geode.test.fake.Fakes;
 
@@ -103,6 +107,52 @@ public class ClientUpdateMessageImplTest implements Serializable {
         .isTrue();
   }
 
+  @Test
+  public void getMessageReusesSerializedPartsAcrossProxies() throws Exception {
+    InternalRegion region = mock(InternalRegion.class);
+    when(region.getFullPath()).thenReturn("/regionName");
+    EventID eventId = new EventID(new byte[] {1, 2, 3}, 1, 1);
+    ClientUpdateMessageImpl clientUpdateMessageImpl =
+        new ClientUpdateMessageImpl(EnumListenerEvent.AFTER_DESTROY, region, 1, null, (byte) 0x01,
+            null, null, eventId);
+
+    Message firstMessage = clientUpdateMessageImpl.getMessage(getTestCacheClientProxy(), null);
+    byte[] firstKeyBytes = firstMessage.getPart(1).getSerializedForm();
+    byte[] firstEventIdBytes = firstMessage.getPart(6).getSerializedForm();
+    Message secondMessage = clientUpdateMessageImpl.getMessage(getTestCacheClientProxy(), null);
+
+    assertThat(secondMessage.getPart(1).getSerializedForm()).isSameAs(firstKeyBytes);
+    assertThat(secondMessage.getPart(1).getObject()).isEqualTo(1);
+    assertThat(secondMessage.getPart(6).getSerializedForm()).isSameAs(firstEventIdBytes);
+    assertThat(secondMessage.getPart(6).getObject()).isEqualTo(eventId);
+  }
+
+  @Test
+  public void sizeIncludesSerializedPartsOnceTheMessageIsDispatched() throws Exception {
+    InternalRegion region = mock(InternalRegion.class);
+    when(region.getFullPath()).thenReturn("/regionName");
+    EventID eventId = new EventID(new byte[] {1, 2, 3}, 1, 1);
+    ClientUpdateMessageImpl clientUpdateMessageImpl =
+        new ClientUpdateMessageImpl(EnumListenerEvent.AFTER_DESTROY, region, 1, null, (byte) 0x01,
+            null, null, eventId);
+    int undispatchedSize = clientUpdateMessageImpl.getSizeInBytes();
+
+    Message message = clientUpdateMessageImpl.getMessage(getTestCacheClientProxy(), null);
+
+    int keySize = CachedDeserializableFactory.getByteSize(message.getPart(1).getSerializedForm());
+    int eventIdSize =
+        CachedDeserializableFactory.getByteSize(message.getPart(6).getSerializedForm());
+    assertThat(clientUpdateMessageImpl.getSizeInBytes())
+        .isGreaterThanOrEqualTo(undispatchedSize + keySize + eventIdSize);
+  }
+
+  private CacheClientProxy getTestCacheClientProxy() {
+    CacheClientProxy cacheClientProxy = mock(CacheClientProxy.class);
+    when(cacheClientProxy.getVersion()).thenReturn(KnownVersion.CURRENT);
+    when(cacheClientProxy.getProxyID()).thenReturn(mock(ClientProxyMembershipID.class));
+    return cacheClientProxy;
+  }
+
   private ClientUpdateMessageImpl getTestClientUpdateMessage() {
     LocalRegion localRegion = mock(LocalRegion.class);
     String regionName = "regionName";
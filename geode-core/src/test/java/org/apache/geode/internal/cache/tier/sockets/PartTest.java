@@ -17,6 +17,7 @@ package org.apache.geode.internal.cache.tier.sockets;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.OutputStream;
 import java.nio.BufferOverflowException;
@@ -181,4 +183,35 @@ public class PartTest {
     verify(heapDataOutputStream, times(1)).rewind();
   }
 
+  @Test
+  public void writeToSocketChannelSendsPendingBytesAheadOfPart() throws Exception {
+    ByteArrayOutputStream written = new ByteArrayOutputStream();
+    SocketChannel socketChannel = mock(SocketChannel.class);
+    when(socketChannel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+      ByteBuffer source = invocation.getArgument(0);
+      int length = source.remaining();
+      while (source.hasRemaining()) {
+        written.write(source.get());
+      }
+      return length;
+    });
+    ByteBuffer byteBuffer = ByteBuffer.allocate(8);
+    byteBuffer.put(new byte[] {-1, -2, -3});
+    byte[] partBytes = new byte[20];
+    for (int i = 0; i < partBytes.length; i++) {
+      partBytes[i] = (byte) i;
+    }
+
+    Part part = new Part();
+    part.setPartState(partBytes, false);
+
+    part.writeTo(socketChannel, byteBuffer);
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(new byte[] {-1, -2, -3});
+    expected.write(partBytes);
+    assertThat(written.toByteArray()).isEqualTo(expected.toByteArray());
+    assertThat(byteBuffer.position()).isZero();
+  }
+
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+
+@Category({ClientServerTest.class})
+public class KeyOrderedBatchApplierTest {
+
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(3);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void appliesEventsForTheSameKeyInBatchOrder() {
+    KeyOrderedBatchApplier applier = newApplier();
+    Map<Object, List<Integer>> applied = new ConcurrentHashMap<>();
+    int index = 0;
+    for (int round = 0; round < 50; round++) {
+      for (int key = 0; key < 20; key++) {
+        int eventIndex = index++;
+        Object eventKey = key;
+        applier.add(eventId(eventIndex, eventIndex), "/region", eventKey, eventIndex,
+            () -> applied.computeIfAbsent(eventKey, k -> Collections.synchronizedList(
+                new ArrayList<>())).add(eventIndex));
+      }
+    }
+
+    assertThat(applier.applyAll()).isEmpty();
+
+    assertThat(applied).hasSize(20);
+    for (List<Integer> indexes : applied.values()) {
+      assertThat(indexes).hasSize(50).isSorted();
+    }
+  }
+
+  @Test
+  public void reportsEveryFailureOrderedByIndex() {
+    KeyOrderedBatchApplier applier = newApplier();
+    AtomicInteger appliedCount = new AtomicInteger();
+    for (int i = 0; i < 10; i++) {
+      int eventIndex = i;
+      applier.add(eventId(i, i), "/region", "key" + i, i, () -> {
+        if (eventIndex % 3 == 0) {
+          throw new IllegalStateException("event " + eventIndex);
+        }
+        appliedCount.incrementAndGet();
+      });
+    }
+
+    List<KeyOrderedBatchApplier.Failure> failures = applier.applyAll();
+
+    assertThat(appliedCount.get()).isEqualTo(6);
+    assertThat(failures).extracting(KeyOrderedBatchApplier.Failure::getIndex)
+        .containsExactly(0, 3, 6, 9);
+    assertThat(failures.get(1).getException()).hasMessage("event 3");
+  }
+
+  @Test
+  public void appliesOnCallingThreadWhenExecutorRejects() {
+    KeyOrderedBatchApplier applier = new KeyOrderedBatchApplier(command -> {
+      throw new RejectedExecutionException();
+    }, 4, UnaryOperator.identity());
+    AtomicInteger appliedCount = new AtomicInteger();
+    for (int i = 0; i < 10; i++) {
+      applier.add(eventId(i, i), "/region", "key" + i, i, appliedCount::incrementAndGet);
+    }
+
+    assertThat(applier.applyAll()).isEmpty();
+    assertThat(appliedCount.get()).isEqualTo(10);
+  }
+
+  @Test
+  public void appliesEventsOfTheSameThreadInBatchOrder() {
+    KeyOrderedBatchApplier applier = newApplier();
+    Map<Long, List<Integer>> applied = new ConcurrentHashMap<>();
+    int index = 0;
+    for (int round = 0; round < 50; round++) {
+      for (long threadId = 0; threadId < 5; threadId++) {
+        int eventIndex = index++;
+        Long eventThreadId = threadId;
+        applier.add(eventId(threadId, round), "/region", "key" + eventIndex, eventIndex,
+            () -> applied.computeIfAbsent(eventThreadId, k -> Collections.synchronizedList(
+                new ArrayList<>())).add(eventIndex));
+      }
+    }
+
+    assertThat(applier.applyAll()).isEmpty();
+
+    assertThat(applied).hasSize(5);
+    for (List<Integer> indexes : applied.values()) {
+      assertThat(indexes).hasSize(50).isSorted();
+    }
+  }
+
+  @Test
+  public void runsTasksInTheGivenContext() {
+    AtomicInteger contextRuns = new AtomicInteger();
+    KeyOrderedBatchApplier applier = new KeyOrderedBatchApplier(executor, 4, task -> () -> {
+      contextRuns.incrementAndGet();
+      task.run();
+    });
+    AtomicInteger appliedCount = new AtomicInteger();
+    for (int i = 0; i < 4; i++) {
+      applier.add(eventId(i, 1), "/region", "key" + i, i, appliedCount::incrementAndGet);
+    }
+
+    assertThat(applier.applyAll()).isEmpty();
+    assertThat(appliedCount.get()).isEqualTo(4);
+    // the calling thread applies one of the stripes itself
+    assertThat(contextRuns.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void applyAllWithoutEventsDoesNothing() {
+    KeyOrderedBatchApplier applier = newApplier();
+
+    assertThat(applier.applyAll()).isEmpty();
+  }
+
+  private KeyOrderedBatchApplier newApplier() {
+    return new KeyOrderedBatchApplier(executor, 4, UnaryOperator.identity());
+  }
+
+  private static EventID eventId(long threadId, long sequenceId) {
+    return new EventID(new byte[] {1, 2, 3}, threadId, sequenceId);
+  }
+}
@@ -15,12 +15,17 @@
 package org.apache.geode.internal.cache.wan;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import org.apache.geode.internal.cache.RegionQueue;
@@ -49,4 +54,17 @@ public class AbstractGatewaySenderEventProcessorTest {
 
     verify(queue, never()).size();
   }
+
+  @Test
+  public void queueLatencyIsRecordedOnlyTheFirstTimeAnEventIsDispatched() {
+    GatewaySenderStats statistics = mock(GatewaySenderStats.class);
+    List<GatewaySenderEventImpl> batch =
+        Arrays.asList(new GatewaySenderEventImpl(), new GatewaySenderEventImpl());
+
+    AbstractGatewaySenderEventProcessor.recordEventQueueLatency(statistics, batch);
+    // the same batch is sent again
+    AbstractGatewaySenderEventProcessor.recordEventQueueLatency(statistics, batch);
+
+    verify(statistics, times(2)).recordEventQueueLatency(anyLong());
+  }
 }
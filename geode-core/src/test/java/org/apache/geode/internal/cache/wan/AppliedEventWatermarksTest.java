@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.EventID;
+
+public class AppliedEventWatermarksTest {
+
+  private static final byte[] MEMBER = new byte[] {1, 2, 3};
+
+  private static final byte[] OTHER_MEMBER = new byte[] {4, 5, 6};
+
+  private final AppliedEventWatermarks watermarks = new AppliedEventWatermarks(10);
+
+  @Test
+  public void eventsOfAnAppliedBatchAreApplied() {
+    watermarks.batchApplied(batch(MEMBER, 1, 1, 5));
+
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 1))).isTrue();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 5))).isTrue();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 6))).isFalse();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 2, 1))).isFalse();
+    assertThat(watermarks.isApplied(new EventID(OTHER_MEMBER, 1, 1))).isFalse();
+  }
+
+  @Test
+  public void eventsOfAFailedBatchAreNotAppliedAfterALaterBatchIsApplied() {
+    watermarks.batchApplied(batch(MEMBER, 1, 1, 5));
+    watermarks.batchFailed(batch(MEMBER, 1, 6, 10));
+    watermarks.batchApplied(batch(MEMBER, 1, 11, 15));
+
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 5))).isTrue();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 6))).isFalse();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 15))).isFalse();
+  }
+
+  @Test
+  public void eventsOfAFirstFailedBatchAreNotAppliedAfterALaterBatchIsApplied() {
+    watermarks.batchFailed(batch(MEMBER, 1, 1, 5));
+    watermarks.batchApplied(batch(MEMBER, 1, 6, 10));
+
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 1))).isFalse();
+  }
+
+  @Test
+  public void applyingTheResendOfAFailedBatchMakesItsEventsApplied() {
+    watermarks.batchFailed(batch(MEMBER, 1, 6, 10));
+    watermarks.batchApplied(batch(MEMBER, 1, 11, 15));
+    watermarks.batchApplied(batch(MEMBER, 1, 6, 15));
+
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 6))).isTrue();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 15))).isTrue();
+  }
+
+  @Test
+  public void watermarksAreDroppedWhenTooManyThreadsAreTracked() {
+    for (int threadId = 0; threadId < 10; threadId++) {
+      watermarks.batchApplied(batch(MEMBER, threadId, 1, 1));
+    }
+    assertThat(watermarks.size()).isEqualTo(10);
+
+    watermarks.batchApplied(batch(MEMBER, 10, 1, 1));
+
+    assertThat(watermarks.size()).isEqualTo(1);
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 0, 1))).isFalse();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 10, 1))).isTrue();
+  }
+
+  @Test
+  public void floorOfAFailedBatchIsKeptWhenTooManyThreadsAreTracked() {
+    watermarks.batchApplied(batch(MEMBER, 1, 1, 5));
+    watermarks.batchFailed(batch(MEMBER, 1, 6, 10));
+    for (int threadId = 2; threadId <= 10; threadId++) {
+      watermarks.batchApplied(batch(MEMBER, threadId, 1, 1));
+    }
+
+    watermarks.batchApplied(batch(MEMBER, 11, 1, 1));
+    watermarks.batchApplied(batch(MEMBER, 1, 11, 15));
+
+    assertThat(watermarks.size()).isEqualTo(2);
+    // the resend of the failed batch must not be skipped
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 6))).isFalse();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 10))).isFalse();
+
+    watermarks.batchApplied(batch(MEMBER, 1, 6, 15));
+
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 6))).isTrue();
+  }
+
+  @Test
+  public void failedBatchesMakeRoomWhenTooManyThreadsAreTracked() {
+    for (int threadId = 0; threadId < 10; threadId++) {
+      watermarks.batchApplied(batch(MEMBER, threadId, 1, 1));
+    }
+
+    watermarks.batchFailed(batch(MEMBER, 10, 1, 1));
+
+    assertThat(watermarks.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void clearForgetsEveryWatermark() {
+    watermarks.batchApplied(batch(MEMBER, 1, 1, 5));
+
+    watermarks.clear();
+
+    assertThat(watermarks.size()).isZero();
+    assertThat(watermarks.isApplied(new EventID(MEMBER, 1, 1))).isFalse();
+  }
+
+  private static AppliedEventWatermarks.Batch batch(byte[] member, long threadId, long from,
+      long to) {
+    AppliedEventWatermarks.Batch batch = new AppliedEventWatermarks.Batch();
+    for (long sequenceId = from; sequenceId <= to; sequenceId++) {
+      batch.add(new EventID(member, threadId, sequenceId));
+    }
+    return batch;
+  }
+}
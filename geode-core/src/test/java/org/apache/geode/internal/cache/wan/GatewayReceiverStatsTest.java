@@ -18,8 +18,11 @@ package org.apache.geode.internal.cache.wan;
 import static org.apache.geode.internal.cache.wan.GatewayReceiverStats.createGatewayReceiverStats;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,6 +112,28 @@ public class GatewayReceiverStatsTest {
         .isEqualTo(delta);
   }
 
+  @Test
+  public void recordEventReceiveLag_incrementsTheBucketOfTheLag() {
+    int lagBucketId = 71;
+    when(statisticsType.nameToId("eventReceiveLagLE30000ms"))
+        .thenReturn(lagBucketId);
+
+    gatewayReceiverStats = createGatewayReceiverStats(factory, ownerName, registry);
+
+    gatewayReceiverStats.recordEventReceiveLag(System.currentTimeMillis() - 15_000);
+
+    verify(statistics).incLong(lagBucketId, 1);
+  }
+
+  @Test
+  public void recordEventReceiveLag_ignoresEventsWithoutVersionTimeStamp() {
+    gatewayReceiverStats = createGatewayReceiverStats(factory, ownerName, registry);
+
+    gatewayReceiverStats.recordEventReceiveLag(0);
+
+    verify(statistics, never()).incLong(anyInt(), anyLong());
+  }
+
   @Test
   public void eventsReceivedMeter_getsValueFromEventsReceivedStat() {
     int eventsReceivedId = 543;
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.CoalescingAsyncEventListener;
+import org.apache.geode.cache.asyncqueue.internal.CoalescedAsyncEvent;
+
+public class GatewaySenderEventCallbackDispatcherTest {
+
+  private final Region<?, ?> customers = region("/customers");
+  private final Region<?, ?> orders = region("/orders");
+
+  private final CoalescingAsyncEventListener lastWriteWins = events -> true;
+
+  @Test
+  public void coalesceKeepsTheLatestEventForEachEntry() {
+    AsyncEvent update1 = event(customers, 1, Operation.UPDATE);
+    AsyncEvent create2 = event(customers, 2, Operation.CREATE);
+    AsyncEvent destroy1 = event(customers, 1, Operation.DESTROY);
+    AsyncEvent order1 = event(orders, 1, Operation.CREATE);
+
+    List<AsyncEvent> coalesced = GatewaySenderEventCallbackDispatcher.coalesce(lastWriteWins,
+        asList(update1, create2, destroy1, order1));
+
+    assertThat(coalesced).containsExactly(create2, destroy1, order1);
+  }
+
+  @Test
+  public void coalesceDeliversAnEntryCreatedThenUpdatedAsACreateWithTheLatestValue() {
+    AsyncEvent create1 = event(customers, 1, Operation.CREATE);
+    AsyncEvent create2 = event(customers, 2, Operation.CREATE);
+    AsyncEvent update1 = event(customers, 1, Operation.UPDATE);
+    AsyncEvent secondUpdate1 = event(customers, 1, Operation.UPDATE);
+    when(secondUpdate1.getDeserializedValue()).thenReturn("latest");
+
+    List<AsyncEvent> coalesced = GatewaySenderEventCallbackDispatcher.coalesce(lastWriteWins,
+        asList(create1, create2, update1, secondUpdate1));
+
+    assertThat(coalesced).hasSize(2);
+    assertThat(coalesced.get(0)).isSameAs(create2);
+    AsyncEvent created = coalesced.get(1);
+    assertThat(created).isInstanceOf(CoalescedAsyncEvent.class);
+    assertThat(((CoalescedAsyncEvent) created).getLatest()).isSameAs(secondUpdate1);
+    assertThat(created.getOperation()).isEqualTo(Operation.CREATE);
+    assertThat(created.getKey()).isEqualTo(1);
+    assertThat(created.getDeserializedValue()).isEqualTo("latest");
+  }
+
+  @Test
+  public void coalesceReturnsTheBatchWhenEveryEntryIsDistinct() {
+    List<AsyncEvent> events = asList(event(customers, 1, Operation.CREATE),
+        event(customers, 2, Operation.CREATE), event(orders, 1, Operation.CREATE));
+
+    assertThat(GatewaySenderEventCallbackDispatcher.coalesce(lastWriteWins, events))
+        .isSameAs(events);
+  }
+
+  @Test
+  public void coalesceDropsEntriesTheListenerMergesAway() {
+    CoalescingAsyncEventListener listener = new CoalescingAsyncEventListener() {
+      @Override
+      public boolean processEvents(List<AsyncEvent> events) {
+        return true;
+      }
+
+      @Override
+      public AsyncEvent coalesce(AsyncEvent previous, AsyncEvent next) {
+        if (previous.getOperation().isCreate() && next.getOperation().isDestroy()) {
+          return null;
+        }
+        return next;
+      }
+    };
+    AsyncEvent create = event(customers, 1, Operation.CREATE);
+    AsyncEvent destroy = event(customers, 1, Operation.DESTROY);
+    AsyncEvent recreate = event(customers, 1, Operation.CREATE);
+    AsyncEvent other = event(customers, 2, Operation.UPDATE);
+
+    assertThat(GatewaySenderEventCallbackDispatcher.coalesce(listener,
+        asList(create, destroy, other))).containsExactly(other);
+    assertThat(GatewaySenderEventCallbackDispatcher.coalesce(listener,
+        asList(create, destroy, recreate))).containsExactly(recreate);
+  }
+
+  @Test
+  public void groupByBucketKeepsTheOrderOfEachBucket() {
+    GatewaySenderEventImpl bucket0First = bucketEvent(0);
+    GatewaySenderEventImpl bucket1 = bucketEvent(1);
+    GatewaySenderEventImpl bucket2 = bucketEvent(2);
+    GatewaySenderEventImpl bucket0Second = bucketEvent(0);
+    GatewaySenderEventImpl bucket3 = bucketEvent(3);
+
+    List<List<AsyncEvent>> groups = GatewaySenderEventCallbackDispatcher.groupByBucket(
+        asList(bucket0First, bucket1, bucket2, bucket0Second, bucket3), 2);
+
+    assertThat(groups).containsExactly(asList(bucket0First, bucket2, bucket0Second),
+        asList(bucket1, bucket3));
+  }
+
+  @Test
+  public void groupByBucketPutsACoalescedEventInTheBucketOfItsLatestEvent() {
+    GatewaySenderEventImpl bucket0 = bucketEvent(0);
+    GatewaySenderEventImpl bucket1 = bucketEvent(1);
+    AsyncEvent coalescedBucket1 = new CoalescedAsyncEvent(bucketEvent(1), Operation.CREATE);
+
+    assertThat(GatewaySenderEventCallbackDispatcher.groupByBucket(
+        asList(bucket0, coalescedBucket1, bucket1), 2))
+            .containsExactly(asList(bucket0), asList(coalescedBucket1, bucket1));
+  }
+
+  @Test
+  public void groupByBucketOmitsEmptyGroups() {
+    GatewaySenderEventImpl bucket4 = bucketEvent(4);
+    GatewaySenderEventImpl bucket8 = bucketEvent(8);
+
+    assertThat(GatewaySenderEventCallbackDispatcher.groupByBucket(asList(bucket4, bucket8), 4))
+        .containsExactly(asList(bucket4, bucket8));
+  }
+
+  private static GatewaySenderEventImpl bucketEvent(int bucketId) {
+    GatewaySenderEventImpl event = mock(GatewaySenderEventImpl.class);
+    when(event.getBucketId()).thenReturn(bucketId);
+    return event;
+  }
+
+  private static Region<?, ?> region(String fullPath) {
+    Region<?, ?> region = mock(Region.class);
+    when(region.getFullPath()).thenReturn(fullPath);
+    return region;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static AsyncEvent event(Region<?, ?> region, Object key, Operation operation) {
+    AsyncEvent event = mock(AsyncEvent.class);
+    when(event.getRegion()).thenReturn(region);
+    when(event.getKey()).thenReturn(key);
+    when(event.getOperation()).thenReturn(operation);
+    return event;
+  }
+}
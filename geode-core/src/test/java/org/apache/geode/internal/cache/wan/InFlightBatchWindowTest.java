@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class InFlightBatchWindowTest {
+
+  @Test
+  public void isDisabledWithoutLimits() {
+    assertThat(new InFlightBatchWindow(0, 0).isEnabled()).isFalse();
+    assertThat(new InFlightBatchWindow(2, 0).isEnabled()).isTrue();
+    assertThat(new InFlightBatchWindow(0, 1024).isEnabled()).isTrue();
+  }
+
+  @Test
+  public void acquireDoesNotWaitWhileThereIsRoom() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(2, 100);
+
+    assertThat(window.acquire(1, 40, () -> false)).isFalse();
+    assertThat(window.acquire(2, 60, () -> false)).isFalse();
+
+    assertThat(window.getInFlightBatches()).isEqualTo(2);
+    assertThat(window.getInFlightBytes()).isEqualTo(100);
+  }
+
+  @Test
+  public void acquireWaitsForAnyBatchToBeReleased() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(2, 0);
+    window.acquire(1, 10, () -> false);
+    window.acquire(2, 10, () -> false);
+
+    CompletableFuture<Boolean> third = CompletableFuture.supplyAsync(() -> {
+      try {
+        return window.acquire(3, 10, () -> false);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertThat(third).isNotDone();
+
+    // the later batch is acknowledged first
+    window.release(2);
+
+    assertThat(third.get()).isTrue();
+    assertThat(window.getInFlightBatches()).isEqualTo(2);
+  }
+
+  @Test
+  public void acquireWaitsForRoomInTheByteWindow() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(0, 100);
+    window.acquire(1, 80, () -> false);
+
+    CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> {
+      try {
+        return window.acquire(2, 30, () -> false);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertThat(second).isNotDone();
+
+    window.release(1);
+
+    assertThat(second.get()).isTrue();
+    assertThat(window.getInFlightBytes()).isEqualTo(30);
+  }
+
+  @Test
+  public void admitsOversizedBatchWhenEmpty() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(0, 100);
+
+    assertThat(window.acquire(1, 500, () -> false)).isFalse();
+    assertThat(window.getInFlightBytes()).isEqualTo(500);
+  }
+
+  @Test
+  public void batchDispatchedAgainReplacesItsOwnEntry() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(1, 100);
+    window.acquire(1, 80, () -> false);
+
+    assertThat(window.acquire(1, 90, () -> false)).isFalse();
+
+    assertThat(window.getInFlightBatches()).isEqualTo(1);
+    assertThat(window.getInFlightBytes()).isEqualTo(90);
+  }
+
+  @Test
+  public void acquireStopsWaitingWhenAsked() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(1, 0);
+    window.acquire(1, 10, () -> false);
+    AtomicBoolean stopWaiting = new AtomicBoolean();
+
+    CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> {
+      try {
+        return window.acquire(2, 10, stopWaiting::get);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    stopWaiting.set(true);
+
+    await().until(second::isDone);
+    assertThat(window.getInFlightBatches()).isEqualTo(2);
+  }
+
+  @Test
+  public void clearEmptiesTheWindowAndIgnoresLaterReleases() throws Exception {
+    InFlightBatchWindow window = new InFlightBatchWindow(2, 0);
+    window.acquire(1, 10, () -> false);
+    window.acquire(2, 10, () -> false);
+
+    window.clear();
+    window.release(1);
+
+    assertThat(window.getInFlightBatches()).isZero();
+    assertThat(window.getInFlightBytes()).isZero();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+
+public class LatencyHistogramTest {
+
+  private Statistics statistics;
+  private LatencyHistogram histogram;
+
+  @Before
+  public void setUp() {
+    StatisticsTypeFactory statsFactory = StatisticsTypeFactoryImpl.singleton();
+    StatisticsType statisticsType = new StatisticsTypeImpl("latencyHistogramTest", "test stats",
+        LatencyHistogram.createDescriptors(statsFactory, "latency", "Number of operations"));
+    statistics = new LocalStatisticsImpl(statisticsType, "test", 1L, 1L, false, 0,
+        mock(StatisticsManager.class));
+    histogram = new LatencyHistogram(statisticsType, "latency");
+  }
+
+  @Test
+  public void recordsEachLatencyInItsBucket() {
+    histogram.recordMillis(statistics, 0);
+    histogram.recordMillis(statistics, 1);
+    histogram.recordMillis(statistics, 7);
+    histogram.recordNanos(statistics, TimeUnit.MILLISECONDS.toNanos(150));
+    histogram.recordMillis(statistics, 90000);
+
+    assertThat(statistics.getLong("latencyLE1ms")).isEqualTo(2);
+    assertThat(statistics.getLong("latencyLE10ms")).isEqualTo(1);
+    assertThat(statistics.getLong("latencyLE200ms")).isEqualTo(1);
+    assertThat(statistics.getLong("latencyGT60000ms")).isEqualTo(1);
+  }
+
+  @Test
+  public void estimatesPercentilesFromTheBuckets() {
+    for (int i = 0; i < 90; i++) {
+      histogram.recordMillis(statistics, 3);
+    }
+    for (int i = 0; i < 9; i++) {
+      histogram.recordMillis(statistics, 40);
+    }
+    histogram.recordMillis(statistics, 1500);
+
+    assertThat(histogram.getPercentileMillis(statistics, 50)).isEqualTo(5);
+    assertThat(histogram.getPercentileMillis(statistics, 99)).isEqualTo(50);
+    assertThat(histogram.getPercentileMillis(statistics, 100)).isEqualTo(2000);
+  }
+
+  @Test
+  public void percentileIsZeroWhenNothingWasRecorded() {
+    assertThat(histogram.getPercentileMillis(statistics, 99)).isZero();
+  }
+}
@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -37,6 +38,7 @@ import org.junit.experimental.categories.Category;
 
 import org.apache.geode.CancelCriterion;
 import org.apache.geode.alerting.internal.spi.AlertingAction;
+import org.apache.geode.distributed.internal.ConflationKey;
 import org.apache.geode.distributed.internal.DMStats;
 import org.apache.geode.distributed.internal.Distribution;
 import org.apache.geode.distributed.internal.DistributionConfig;
@@ -125,10 +127,13 @@ public class ConnectionTest {
   }
 
   private Connection createSpiedConnection() throws IOException {
+    return spy(createConnection(mock(DMStats.class)));
+  }
+
+  private Connection createConnection(DMStats dmStats) throws IOException {
     ConnectionTable connectionTable = mock(ConnectionTable.class);
     Distribution distribution = mock(Distribution.class);
     DistributionManager distributionManager = mock(DistributionManager.class);
-    DMStats dmStats = mock(DMStats.class);
     CancelCriterion stopper = mock(CancelCriterion.class);
     SocketCloser socketCloser = mock(SocketCloser.class);
     TCPConduit tcpConduit = mock(TCPConduit.class);
@@ -146,9 +151,7 @@ public class ConnectionTest {
 
     SocketChannel channel = SocketChannel.open();
 
-    Connection connection = new Connection(connectionTable, channel.socket());
-    connection = spy(connection);
-    return connection;
+    return new Connection(connectionTable, channel.socket());
   }
 
   @Test
@@ -175,4 +178,71 @@ public class ConnectionTest {
     connection.notifyHandshakeWaiter(false);
     verify(connection, times(1)).clearSSLInputBuffer();
   }
+
+  @Test
+  public void conflatedUpdatesAreCompactedOutOfTheOutgoingQueue() throws Exception {
+    DMStats dmStats = mock(DMStats.class);
+    Connection connection = createConnection(dmStats);
+    connection.setAsyncMaxQueueSizeForTest(Long.MAX_VALUE);
+
+    // alternating updates to two entries leave a stale key behind on every conflation
+    for (int i = 0; i < 1026; i++) {
+      connection.addToQueue(ByteBuffer.allocate(10), updateOf(i % 2), true);
+    }
+
+    assertThat(connection.getOutgoingQueueLength()).isEqualTo(2);
+    verify(dmStats, times(1024)).incAsyncConflatedBytes(10);
+    verify(dmStats).incAsyncQueueCompactions();
+  }
+
+  @Test
+  public void smallOutgoingQueueIsNotCompacted() throws Exception {
+    DMStats dmStats = mock(DMStats.class);
+    Connection connection = createConnection(dmStats);
+    connection.setAsyncMaxQueueSizeForTest(Long.MAX_VALUE);
+
+    for (int i = 0; i < 1025; i++) {
+      connection.addToQueue(ByteBuffer.allocate(10), updateOf(i % 2), true);
+    }
+
+    assertThat(connection.getOutgoingQueueLength()).isEqualTo(1025);
+    verify(dmStats, never()).incAsyncQueueCompactions();
+  }
+
+  @Test
+  public void messagesOfACombinedWriteAreQueuedWithTheirOwnConflationKeys() throws Exception {
+    DMStats dmStats = mock(DMStats.class);
+    Connection connection = createConnection(dmStats);
+    connection.setAsyncMaxQueueSizeForTest(Long.MAX_VALUE);
+    connection.setAsyncQueuingInProgressForTest(true);
+    ByteBuffer combined = ByteBuffer.allocate(25);
+    DistributionMessage[] msgs =
+        new DistributionMessage[] {updateOf(0), updateOf(0), mock(DistributionMessage.class)};
+    int[] sizes = new int[] {10, 10, 5};
+
+    assertThat(connection.addEachToQueue(combined, msgs, sizes, 0, 3)).isEqualTo(3);
+
+    assertThat(combined.remaining()).isZero();
+    // the second update conflates the first one
+    assertThat(connection.getOutgoingQueueLength()).isEqualTo(2);
+    verify(dmStats).incAsyncConflatedBytes(10);
+  }
+
+  @Test
+  public void messagesOfACombinedWriteAreNotQueuedOnceQueuingHasStopped() throws Exception {
+    Connection connection = createConnection(mock(DMStats.class));
+    ByteBuffer combined = ByteBuffer.allocate(20);
+    DistributionMessage[] msgs = new DistributionMessage[] {updateOf(0), updateOf(1)};
+
+    assertThat(connection.addEachToQueue(combined, msgs, new int[] {10, 10}, 0, 2)).isZero();
+
+    assertThat(combined.remaining()).isEqualTo(20);
+    assertThat(connection.getOutgoingQueueLength()).isZero();
+  }
+
+  private static DistributionMessage updateOf(Object key) {
+    DistributionMessage message = mock(DistributionMessage.class);
+    when(message.getConflationKey()).thenReturn(new ConflationKey(key, "/region", true));
+    return message;
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.CancelCriterion;
+import org.apache.geode.DataSerializable;
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.ReplyMessage;
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.test.junit.categories.MembershipTest;
+
+@Category(MembershipTest.class)
+public class MsgDestreamerTest {
+
+  private MsgDestreamer destreamer;
+
+  @After
+  public void tearDown() {
+    if (destreamer != null) {
+      destreamer.close();
+    }
+  }
+
+  @Test
+  public void readsMessageWhosePrimitivesStraddleChunks() throws Exception {
+    List<Object> values = new ArrayList<>();
+    values.add(Long.MAX_VALUE - 7);
+    values.add(Math.PI);
+    values.add("destreamed");
+    values.add(new byte[] {1, 2, 3, 4, 5});
+    ReplyMessage message = new ReplyMessage();
+    message.setProcessorId(0x12345678);
+    message.setReturnValue(values);
+
+    HeapDataOutputStream out = new HeapDataOutputStream(KnownVersion.CURRENT);
+    InternalDataSerializer.writeDSFID(message, out);
+    byte[] bytes = out.toByteArray();
+
+    destreamer = new MsgDestreamer(mock(DMStats.class), mock(CancelCriterion.class), null);
+    // three byte chunks put every multi-byte primitive across a chunk boundary at least once
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    for (int position = 0; position < bytes.length; position += 3) {
+      buffer.position(position);
+      destreamer.addChunk(buffer, Math.min(3, bytes.length - position));
+    }
+
+    ReplyMessage result = (ReplyMessage) destreamer.getMessage();
+    assertThat(result.toString()).contains("processorId=" + 0x12345678);
+    List<?> resultValues = (List<?>) result.getReturnValue();
+    assertThat(resultValues).hasSize(4);
+    assertThat(resultValues.get(0)).isEqualTo(Long.MAX_VALUE - 7);
+    assertThat(resultValues.get(1)).isEqualTo(Math.PI);
+    assertThat(resultValues.get(2)).isEqualTo("destreamed");
+    assertThat((byte[]) resultValues.get(3)).isEqualTo(new byte[] {1, 2, 3, 4, 5});
+  }
+
+  @Test
+  public void readsLinesAcrossChunks() throws Exception {
+    ReplyMessage message = new ReplyMessage();
+    message.setReturnValue(new Lines());
+
+    HeapDataOutputStream out = new HeapDataOutputStream(KnownVersion.CURRENT);
+    InternalDataSerializer.writeDSFID(message, out);
+    byte[] bytes = out.toByteArray();
+
+    destreamer = new MsgDestreamer(mock(DMStats.class), mock(CancelCriterion.class), null);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    for (int position = 0; position < bytes.length; position += 4) {
+      buffer.position(position);
+      destreamer.addChunk(buffer, Math.min(4, bytes.length - position));
+    }
+
+    Lines result = (Lines) ((ReplyMessage) destreamer.getMessage()).getReturnValue();
+    assertThat(result.lines).containsExactly("first line", "", "second", "third");
+  }
+
+  public static class Lines implements DataSerializable {
+    private final List<String> lines = new ArrayList<>();
+
+    public Lines() {
+      // for deserialization
+    }
+
+    @Override
+    public void toData(DataOutput out) throws IOException {
+      out.writeBytes("first line\n\nsecond\rthird\n");
+    }
+
+    @Override
+    public void fromData(DataInput in) throws IOException {
+      for (int i = 0; i < 4; i++) {
+        lines.add(in.readLine());
+      }
+    }
+  }
+}
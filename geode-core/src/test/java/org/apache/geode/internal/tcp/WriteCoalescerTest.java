@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
+import static org.apache.geode.test.awaitility.GeodeAwaitility.getTimeout;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.DistributionMessage;
+import org.apache.geode.test.junit.categories.MembershipTest;
+import org.apache.geode.test.junit.rules.ExecutorServiceRule;
+
+@Category(MembershipTest.class)
+public class WriteCoalescerTest {
+
+  @Rule
+  public ExecutorServiceRule executorServiceRule = new ExecutorServiceRule();
+
+  private DMStats stats;
+  private WriteCoalescer writeCoalescer;
+  private List<byte[]> writes;
+  private List<DistributionMessage> writtenMessages;
+
+  @Before
+  public void setUp() {
+    stats = mock(DMStats.class);
+    writeCoalescer = new WriteCoalescer(1024, stats);
+    writes = Collections.synchronizedList(new ArrayList<>());
+    writtenMessages = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @Test
+  public void writesDirectlyWhenUncontended() throws Exception {
+    DistributionMessage msg = mock(DistributionMessage.class);
+
+    writeCoalescer.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), msg, this::record);
+
+    assertThat(writes).hasSize(1);
+    assertThat(writes.get(0)).isEqualTo(new byte[] {1, 2, 3});
+    assertThat(writtenMessages).containsExactly(msg);
+    verify(stats, never()).incCoalescedWrites(anyInt(), anyInt());
+  }
+
+  @Test
+  public void combinesMessagesSentWhileWriting() throws Exception {
+    CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    WriteCoalescer.Writer blockingWriter = (buffer, msg) -> {
+      if (writes.isEmpty()) {
+        firstWriteStarted.countDown();
+        awaitLatch(releaseFirstWrite);
+      }
+      record(buffer, msg);
+    };
+
+    Future<Void> first = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {1}), null, blockingWriter));
+    firstWriteStarted.await(getTimeout().toMillis(), MILLISECONDS);
+    Future<Void> second = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {2, 2}), null, blockingWriter));
+    Future<Void> third = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {3, 3}), null, blockingWriter));
+    await().untilAsserted(() -> assertThat(writeCoalescer.getPendingMessages()).isEqualTo(2));
+
+    releaseFirstWrite.countDown();
+    first.get();
+    second.get();
+    third.get();
+
+    assertThat(writes).hasSize(2);
+    assertThat(writes.get(0)).isEqualTo(new byte[] {1});
+    assertThat(Arrays.toString(writes.get(1))).isIn("[2, 2, 3, 3]", "[3, 3, 2, 2]");
+    verify(stats).incCoalescedWrites(2, 4);
+  }
+
+  @Test
+  public void handsWriterRoleToSenderOfNextBatch() throws Exception {
+    CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    CountDownLatch secondWriteStarted = new CountDownLatch(1);
+    CountDownLatch releaseSecondWrite = new CountDownLatch(1);
+    List<Thread> writingThreads = Collections.synchronizedList(new ArrayList<>());
+    WriteCoalescer.Writer blockingWriter = (buffer, msg) -> {
+      if (writes.isEmpty()) {
+        firstWriteStarted.countDown();
+        awaitLatch(releaseFirstWrite);
+      } else if (writes.size() == 1) {
+        secondWriteStarted.countDown();
+        awaitLatch(releaseSecondWrite);
+      }
+      writingThreads.add(Thread.currentThread());
+      record(buffer, msg);
+    };
+
+    Future<Thread> first = executorServiceRule.submit(() -> {
+      writeCoalescer.write(ByteBuffer.wrap(new byte[] {1}), null, blockingWriter);
+      return Thread.currentThread();
+    });
+    firstWriteStarted.await(getTimeout().toMillis(), MILLISECONDS);
+    Future<Void> second = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {2}), null, blockingWriter));
+    await().untilAsserted(() -> assertThat(writeCoalescer.getPendingMessages()).isEqualTo(1));
+    releaseFirstWrite.countDown();
+    secondWriteStarted.await(getTimeout().toMillis(), MILLISECONDS);
+    Future<Thread> third = executorServiceRule.submit(() -> {
+      writeCoalescer.write(ByteBuffer.wrap(new byte[] {3}), null, blockingWriter);
+      return Thread.currentThread();
+    });
+    await().untilAsserted(() -> assertThat(writeCoalescer.getPendingMessages()).isEqualTo(1));
+
+    releaseSecondWrite.countDown();
+    Thread firstThread = first.get();
+    second.get();
+    Thread thirdThread = third.get();
+
+    assertThat(writes).hasSize(3);
+    assertThat(writes.get(2)).isEqualTo(new byte[] {3});
+    // the first sender wrote one batch of other senders' messages and left the next one
+    assertThat(writingThreads).containsExactly(firstThread, firstThread, thirdThread);
+  }
+
+  @Test
+  public void failsWaitingSendersWhenWriteFails() throws Exception {
+    CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    WriteCoalescer.Writer failingWriter = (buffer, msg) -> {
+      firstWriteStarted.countDown();
+      awaitLatch(releaseFirstWrite);
+      throw new IOException("socket closed");
+    };
+
+    Future<Void> first = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {1}), null, failingWriter));
+    firstWriteStarted.await(getTimeout().toMillis(), MILLISECONDS);
+    Future<Void> second = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {2}), null, failingWriter));
+    await().untilAsserted(() -> assertThat(writeCoalescer.getPendingMessages()).isEqualTo(1));
+
+    releaseFirstWrite.countDown();
+
+    assertThatThrownBy(first::get).hasCauseInstanceOf(IOException.class);
+    assertThatThrownBy(second::get).hasCauseInstanceOf(IOException.class)
+        .hasStackTraceContaining("Coalesced write failed");
+    assertThat(writeCoalescer.getPendingMessages()).isZero();
+  }
+
+  @Test
+  public void combinedWritePassesTheMessageAndSizeOfEachPart() throws Exception {
+    CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    List<String> combinedParts = Collections.synchronizedList(new ArrayList<>());
+    DistributionMessage msg2 = mock(DistributionMessage.class);
+    DistributionMessage msg3 = mock(DistributionMessage.class);
+    WriteCoalescer.Writer writer = new WriteCoalescer.Writer() {
+      @Override
+      public void write(ByteBuffer buffer, DistributionMessage msg) throws IOException {
+        firstWriteStarted.countDown();
+        awaitLatch(releaseFirstWrite);
+        record(buffer, msg);
+      }
+
+      @Override
+      public void writeCombined(ByteBuffer buffer, DistributionMessage[] msgs, int[] sizes,
+          int count) {
+        for (int i = 0; i < count; i++) {
+          combinedParts.add((msgs[i] == msg2 ? "msg2:" : "msg3:") + sizes[i]);
+        }
+        record(buffer, null);
+      }
+    };
+
+    Future<Void> first = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {1}), null, writer));
+    firstWriteStarted.await(getTimeout().toMillis(), MILLISECONDS);
+    Future<Void> second = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {2, 2}), msg2, writer));
+    await().untilAsserted(() -> assertThat(writeCoalescer.getPendingMessages()).isEqualTo(1));
+    Future<Void> third = executorServiceRule.submit(
+        () -> writeCoalescer.write(ByteBuffer.wrap(new byte[] {3, 3, 3}), msg3, writer));
+    await().untilAsserted(() -> assertThat(writeCoalescer.getPendingMessages()).isEqualTo(2));
+
+    releaseFirstWrite.countDown();
+    first.get();
+    second.get();
+    third.get();
+
+    assertThat(combinedParts).containsExactly("msg2:2", "msg3:3");
+    assertThat(writes.get(1)).isEqualTo(new byte[] {2, 2, 3, 3, 3});
+  }
+
+  private static void awaitLatch(CountDownLatch latch) throws IOException {
+    try {
+      latch.await(getTimeout().toMillis(), MILLISECONDS);
+    } catch (InterruptedException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private void record(ByteBuffer buffer, DistributionMessage msg) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    writes.add(bytes);
+    writtenMessages.add(msg);
+  }
+}
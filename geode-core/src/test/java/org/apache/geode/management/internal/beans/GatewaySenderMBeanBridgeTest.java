@@ -14,6 +14,7 @@
  */
 package org.apache.geode.management.internal.beans;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +33,7 @@ import org.apache.geode.internal.NanoTimer;
 import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
 import org.apache.geode.internal.cache.wan.GatewaySenderStats;
 import org.apache.geode.internal.io.MainWithChildrenRollingFileHandler;
+import org.apache.geode.internal.statistics.LatencyHistogram;
 import org.apache.geode.internal.statistics.SampleCollector;
 import org.apache.geode.internal.statistics.StatArchiveHandlerConfig;
 import org.apache.geode.internal.statistics.StatisticsSampler;
@@ -91,4 +93,31 @@ public class GatewaySenderMBeanBridgeTest {
     verify(gatewaySender).startWithCleanQueue();
   }
 
+  @Test
+  public void latencyPercentilesCoverTheSamplesSinceTheyWereLastRead() {
+    AbstractGatewaySender sender = mock(AbstractGatewaySender.class);
+    GatewaySenderStats gatewaySenderStats = mock(GatewaySenderStats.class);
+    when(sender.getStatistics()).thenReturn(gatewaySenderStats);
+    Statistics stats = mock(Statistics.class);
+    when(gatewaySenderStats.getStats()).thenReturn(stats);
+    StatisticsType type = mock(StatisticsType.class);
+    when(stats.getType()).thenReturn(type);
+    String[] bucketNames = LatencyHistogram.getBucketNames("eventReplicationLag");
+    StatisticDescriptor[] descriptors = new StatisticDescriptor[bucketNames.length];
+    for (int i = 0; i < bucketNames.length; i++) {
+      descriptors[i] = mock(StatisticDescriptor.class);
+      when(descriptors[i].getName()).thenReturn(bucketNames[i]);
+      // 98 events took at most 1 ms and 2 at most 2 seconds
+      when(stats.get(descriptors[i])).thenReturn(i == 0 ? 98L : i == 10 ? 2L : 0L);
+    }
+    when(type.getStatistics()).thenReturn(descriptors);
+
+    GatewaySenderMBeanBridge senderBridge = new GatewaySenderMBeanBridge(sender);
+
+    assertThat(senderBridge.getReplicationLagMedian()).isEqualTo(1);
+    assertThat(senderBridge.getReplicationLag99thPercentile()).isEqualTo(2000);
+    // nothing was recorded since they were read
+    assertThat(senderBridge.getReplicationLagMedian()).isZero();
+    assertThat(senderBridge.getReplicationLag99thPercentile()).isZero();
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.management.internal.beans.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class StatsPercentileTest {
+
+  private MBeanStatsMonitor monitor;
+
+  private StatsPercentile percentile;
+
+  @Before
+  public void setUp() {
+    monitor = new MBeanStatsMonitor(getClass().getSimpleName());
+    percentile = new StatsPercentile("latency", 99, monitor);
+  }
+
+  @Test
+  public void isZeroWhenNothingWasRecorded() {
+    assertThat(percentile.getPercentile()).isZero();
+  }
+
+  @Test
+  public void followsTheLatenciesRecordedSinceThePreviousCall() {
+    monitor.statsMap.put("latencyLE5ms", 100_000L);
+
+    assertThat(percentile.getPercentile()).isEqualTo(5);
+
+    // an outage after a long period of fast samples shows up right away
+    monitor.statsMap.put("latencyLE5ms", 100_010L);
+    monitor.statsMap.put("latencyLE30000ms", 990L);
+
+    assertThat(percentile.getPercentile()).isEqualTo(30000);
+
+    monitor.statsMap.put("latencyLE5ms", 100_110L);
+
+    assertThat(percentile.getPercentile()).isEqualTo(5);
+    assertThat(percentile.getPercentile()).isZero();
+  }
+
+  @Test
+  public void startsOverWhenTheCountersAreReset() {
+    monitor.statsMap.put("latencyLE5ms", 100L);
+    percentile.getPercentile();
+
+    monitor.statsMap.clear();
+    monitor.statsMap.put("latencyLE100ms", 10L);
+
+    assertThat(percentile.getPercentile()).isEqualTo(100);
+  }
+}
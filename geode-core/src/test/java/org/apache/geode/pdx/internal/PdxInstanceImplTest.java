@@ -19,6 +19,7 @@ import static org.apache.geode.distributed.internal.locks.GrantorRequestProcesso
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -287,6 +288,26 @@ public class PdxInstanceImplTest {
     assertEquals(true, instance.hasField(booleanArrayField.getFieldName()));
   }
 
+  @Test
+  public void testReadFieldByPdxField() {
+    final PdxInstanceImpl impl = (PdxInstanceImpl) instance;
+    assertEquals(impl.readField(intField.getFieldName()), impl.readField(intField));
+    assertEquals(impl.readField(stringField.getFieldName()), impl.readField(stringField));
+    assertEquals(impl.readRawField(intField.getFieldName()), impl.readRawField(intField));
+    assertEquals(impl.readRawField(stringField.getFieldName()), impl.readRawField(stringField));
+    assertEquals(PdxString.class, impl.readRawField(stringField).getClass());
+  }
+
+  @Test
+  public void testGetRawFieldIfPresent() {
+    final PdxInstanceImpl impl = (PdxInstanceImpl) instance;
+    final Object notFound = new Object();
+    assertSame(notFound, impl.getRawFieldIfPresent(nonExistentField.getFieldName(), notFound));
+    assertEquals(37, impl.getRawFieldIfPresent(intField.getFieldName(), notFound));
+    assertEquals(impl.getRawField(stringField.getFieldName()),
+        impl.getRawFieldIfPresent(stringField.getFieldName(), notFound));
+  }
+
   @Test
   public void testIsEnum() {
     assertFalse(instance.isEnum());
@@ -18,9 +18,15 @@ import static java.lang.Integer.MAX_VALUE;
 import static java.util.concurrent.ForkJoinPool.defaultForkJoinWorkerThreadFactory;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinWorkerThread;
@@ -104,6 +110,31 @@ public class LoggingExecutors {
     return command -> new LoggingThread(threadName, command).start();
   }
 
+  /**
+   * Returns true if this JVM can create virtual threads, which requires JDK 21 or later.
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VirtualThreadSupport.NEW_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an executor that runs each task on a new virtual thread named threadName followed by a
+   * sequence number. Virtual threads are cheap to create and park, so this suits tasks that spend
+   * most of their time blocked such as P2P reader threads.
+   *
+   * @throws UnsupportedOperationException if {@link #isVirtualThreadSupported()} is false
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor(String threadName) {
+    if (!isVirtualThreadSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require JDK 21 or later");
+    }
+    try {
+      return VirtualThreadSupport.newThreadPerTaskExecutor(threadName);
+    } catch (Throwable t) {
+      throw new UnsupportedOperationException("Unable to create virtual thread executor", t);
+    }
+  }
+
   public static ExecutorService newWorkStealingPool(String threadName, int maximumParallelThreads) {
     ForkJoinWorkerThreadFactory factory = pool -> {
       ForkJoinWorkerThread worker = defaultForkJoinWorkerThreadFactory.newThread(pool);
@@ -113,4 +144,54 @@ public class LoggingExecutors {
     };
     return new ForkJoinPool(maximumParallelThreads, factory, null, true);
   }
+
+  /**
+   * Geode is compiled for Java 8, so the virtual thread API is resolved reflectively.
+   */
+  private static class VirtualThreadSupport {
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle UNCAUGHT_EXCEPTION_HANDLER;
+    private static final MethodHandle FACTORY;
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+      MethodHandle ofVirtual = null;
+      MethodHandle name = null;
+      MethodHandle uncaughtExceptionHandler = null;
+      MethodHandle factory = null;
+      MethodHandle newThreadPerTaskExecutor = null;
+      try {
+        Lookup lookup = MethodHandles.publicLookup();
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+            MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+        name = lookup.findVirtual(builderClass, "name",
+            MethodType.methodType(builderClass, String.class, long.class));
+        uncaughtExceptionHandler = lookup.findVirtual(builderClass, "uncaughtExceptionHandler",
+            MethodType.methodType(builderClass, UncaughtExceptionHandler.class));
+        factory = lookup.findVirtual(builderClass, "factory",
+            MethodType.methodType(ThreadFactory.class));
+        newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+            MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+      } catch (ReflectiveOperationException | RuntimeException ignored) {
+        // virtual threads are not available on this JDK
+        newThreadPerTaskExecutor = null;
+      }
+      OF_VIRTUAL = ofVirtual;
+      NAME = name;
+      UNCAUGHT_EXCEPTION_HANDLER = uncaughtExceptionHandler;
+      FACTORY = factory;
+      NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    static ExecutorService newThreadPerTaskExecutor(String threadName) throws Throwable {
+      Object builder = OF_VIRTUAL.invoke();
+      builder = NAME.invoke(builder, threadName, 0L);
+      builder = UNCAUGHT_EXCEPTION_HANDLER.invoke(builder,
+          LoggingUncaughtExceptionHandler.getInstance());
+      ThreadFactory threadFactory = (ThreadFactory) FACTORY.invoke(builder);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+    }
+  }
 }
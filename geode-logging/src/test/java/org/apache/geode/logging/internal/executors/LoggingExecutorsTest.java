@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.geode.logging.internal.executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.LoggingTest;
+
+/** Unit tests for {@link LoggingExecutors}. */
+@Category(LoggingTest.class)
+public class LoggingExecutorsTest {
+
+  @Test
+  public void virtualThreadPerTaskExecutorRunsTasksOnNamedVirtualThreads() throws Exception {
+    assumeTrue(LoggingExecutors.isVirtualThreadSupported());
+    ExecutorService executor = LoggingExecutors.newVirtualThreadPerTaskExecutor("baseName");
+    try {
+      Thread thread = executor.submit(Thread::currentThread).get(1, TimeUnit.MINUTES);
+
+      assertThat(thread.getName()).isEqualTo("baseName" + 0);
+      assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+      assertThat(thread.getUncaughtExceptionHandler())
+          .isSameAs(LoggingUncaughtExceptionHandler.getInstance());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void virtualThreadPerTaskExecutorThrowsIfVirtualThreadsAreNotSupported() {
+    assumeFalse(LoggingExecutors.isVirtualThreadSupported());
+
+    assertThatThrownBy(() -> LoggingExecutors.newVirtualThreadPerTaskExecutor("baseName"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}